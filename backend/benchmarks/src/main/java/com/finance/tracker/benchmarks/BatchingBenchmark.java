@@ -0,0 +1,113 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.dto.ImportResult;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.service.TransactionImportService;
+import com.finance.tracker.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput of the two bulk write paths with the prod batching settings off and on:
+ * a group bill split between 100 users (Hibernate batch of ExpenseSplit rows) and a
+ * 2000-row CSV import (JdbcTemplate batch). With -Dbench.db-url pointing at MySQL, "on"
+ * also enables rewriteBatchedStatements and the prepared statement cache, as in application-prod.yml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchingBenchmark {
+
+    private static final int SPLIT_USERS = 100;
+    private static final int IMPORT_ROWS = 2000;
+
+    @Param({"off", "on"})
+    private String batching;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private TransactionImportService importService;
+    private User payer;
+    private TransactionRequest groupBill;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean on = batching.equals("on");
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + (on ? 50 : 1),
+                "--spring.jpa.properties.hibernate.order_inserts=" + on,
+                "--import.batch-size=" + (on ? 500 : 1)));
+        if (System.getProperty("bench.db-url") != null) {
+            // MySQL driver settings; unknown to H2, so only passed for MySQL runs
+            args.add("--spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=" + on);
+            args.add("--spring.datasource.hikari.data-source-properties.cachePrepStmts=" + on);
+            args.add("--spring.datasource.hikari.data-source-properties.useServerPrepStmts=" + on);
+        }
+        context = BenchmarkApp.start(args.toArray(String[]::new));
+        transactionService = context.getBean(TransactionService.class);
+        importService = context.getBean(TransactionImportService.class);
+
+        BenchmarkApp.Fixture fixture = BenchmarkApp.seedGroup(context, SPLIT_USERS);
+        payer = fixture.payer();
+
+        groupBill = new TransactionRequest();
+        groupBill.setAmount(new BigDecimal("1000.00"));
+        groupBill.setDescription("Trip");
+        groupBill.setDate(LocalDate.now());
+        groupBill.setType(TransactionType.EXPENSE);
+        groupBill.setWalletId(fixture.wallet().getId());
+        groupBill.setGroupId(fixture.group().getId());
+        groupBill.setSplitUserIds(fixture.members().stream().map(User::getId).toList());
+
+        StringBuilder rows = new StringBuilder("date,description,amount,type,walletId\n");
+        for (int i = 0; i < IMPORT_ROWS; i++) {
+            rows.append(LocalDate.now().minusDays(i % 365)).append(",Row ").append(i)
+                    .append(",12.34,INCOME,").append(fixture.wallet().getId()).append('\n');
+        }
+        csv = rows.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // One transaction row + 100 split rows
+    @Benchmark
+    public Object groupBillSplit() {
+        return transactionService.createTransaction(groupBill, payer);
+    }
+
+    // 2000 transaction rows
+    @Benchmark
+    public ImportResult importCsv() throws IOException {
+        return importService.importCsv(new ByteArrayInputStream(csv), payer);
+    }
+}
@@ -0,0 +1,123 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.TrackerApplication;
+import com.finance.tracker.model.Group;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.Role;
+import com.finance.tracker.repository.GroupRepository;
+import com.finance.tracker.repository.UserRepository;
+import com.finance.tracker.repository.WalletRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Boots the real application against in-memory H2 (MySQL mode) for service benchmarks,
+ * and seeds a group with a paying user, a wallet and N members.
+ * Set -Dbench.db-url (plus bench.db-username / bench.db-password) to run against a
+ * scratch MySQL database instead; its tables are dropped and re-created.
+ */
+public final class BenchmarkApp {
+
+    // Passed as command line arguments so they win over the ${DB_URL} placeholders in application.yml
+    private static final String[] ARGS = {
+            "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,DATE,TYPE;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--jwt.secret=" + JwtServiceBenchmark.SECRET,
+            "--jwt.expiration=3600000",
+            "--cors.allowed-origins=http://localhost",
+            "--server.port=0",
+            "--logging.level.root=WARN"
+    };
+
+    private BenchmarkApp() {
+    }
+
+    public static ConfigurableApplicationContext start(String... extraArgs) {
+        return start(context -> { }, extraArgs);
+    }
+
+    // Same, with a hook to customise the context before it is refreshed (e.g. wrap beans)
+    public static ConfigurableApplicationContext start(
+            ApplicationContextInitializer<ConfigurableApplicationContext> initializer, String... extraArgs) {
+        // Later values replace earlier ones (Spring would join repeated options with commas)
+        Map<String, String> options = new LinkedHashMap<>();
+        put(options, ARGS);
+        String mysqlUrl = System.getProperty("bench.db-url");
+        if (mysqlUrl != null) {
+            put(options,
+                    "--spring.datasource.url=" + mysqlUrl,
+                    "--spring.datasource.username=" + System.getProperty("bench.db-username", "root"),
+                    "--spring.datasource.password=" + System.getProperty("bench.db-password", ""),
+                    "--spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect");
+        }
+        put(options, extraArgs);
+
+        String[] args = options.entrySet().stream()
+                .map(option -> option.getKey() + "=" + option.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(TrackerApplication.class).initializers(initializer).run(args);
+    }
+
+    private static void put(Map<String, String> options, String... args) {
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+    }
+
+    // A group of memberCount users (payer included) and a well-funded wallet for the payer
+    public static Fixture seedGroup(ConfigurableApplicationContext context, int memberCount) {
+        UserRepository users = context.getBean(UserRepository.class);
+        WalletRepository wallets = context.getBean(WalletRepository.class);
+        GroupRepository groups = context.getBean(GroupRepository.class);
+
+        String run = Long.toString(System.nanoTime());
+        Set<User> members = new HashSet<>();
+        User payer = null;
+        for (int i = 0; i < memberCount; i++) {
+            User user = users.save(User.builder()
+                    .username("member" + i)
+                    .email("member" + i + "-" + run + "@bench.local")
+                    .password("secret")
+                    .role(Role.USER)
+                    .build());
+            members.add(user);
+            if (payer == null) {
+                payer = user;
+            }
+        }
+
+        Wallet wallet = wallets.save(Wallet.builder()
+                .name("Bench")
+                .balance(new BigDecimal("1000000000000.00"))
+                .currency("LKR")
+                .user(payer)
+                .build());
+
+        Group group = groups.save(Group.builder()
+                .name("Bench group")
+                .createdBy(payer)
+                .members(members)
+                .build());
+
+        return new Fixture(payer, wallet, group, List.copyOf(members));
+    }
+
+    public record Fixture(User payer, Wallet wallet, Group group, List<User> members) {
+    }
+}
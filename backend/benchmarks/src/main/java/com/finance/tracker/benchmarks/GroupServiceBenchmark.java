@@ -0,0 +1,65 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.dto.GroupResponse;
+import com.finance.tracker.model.User;
+import com.finance.tracker.service.GroupService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+// Membership check in GroupService.getGroupById as the group grows
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GroupServiceBenchmark {
+
+    @Param({"10", "500"})
+    private int groupSize;
+
+    private ConfigurableApplicationContext context;
+    private GroupService groupService;
+    private TransactionTemplate transactionTemplate;
+    private Long groupId;
+    private User member;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start();
+        groupService = context.getBean(GroupService.class);
+        // A read-only transaction stands in for the open-session-in-view request scope
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        BenchmarkApp.Fixture fixture = BenchmarkApp.seedGroup(context, groupSize);
+        groupId = fixture.group().getId();
+        member = fixture.members().get(fixture.members().size() - 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GroupResponse getGroupById() {
+        return transactionTemplate.execute(status -> groupService.getGroupById(groupId, member));
+    }
+}
@@ -0,0 +1,85 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.config.JwtService;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT cost.
+ * legacyRequestValidation replays what the filter used to do (decode the key and build a
+ * parser on every call, parse the token three times); requestValidation is the current
+ * path (cached key and parser, one parse).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    static final String SECRET = "3cfa76ef14937c1c0ea519f8fc057a80fcd04a7420f8e8bcd0a7567c272e007b";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000L);
+        user = User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .username("bench")
+                .password("secret")
+                .role(Role.USER)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean requestValidation() {
+        Claims claims = jwtService.parseToken(token);
+        return claims.getSubject() != null && jwtService.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public boolean legacyRequestValidation() {
+        String username = legacyParse(token).getSubject();             // filter: extractUsername
+        boolean sameUser = legacyParse(token).getSubject().equals(username); // isTokenValid: extractUsername
+        Date expiration = legacyParse(token).getExpiration();          // isTokenValid: extractExpiration
+        return sameUser && !expiration.before(new Date());
+    }
+
+    private static Claims legacyParse(String token) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
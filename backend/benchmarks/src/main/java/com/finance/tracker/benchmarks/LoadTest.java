@@ -0,0 +1,189 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.config.JwtService;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.service.TransactionService;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP load test of GET /api/transactions/page with platform threads and with the
+ * "virtual" profile, same pool size and same load. Prints throughput and latency percentiles.
+ *
+ * H2 answers in microseconds, so every connection checkout is held for loadtest.db-latency-ms
+ * to stand in for a MySQL round trip. Options (system properties):
+ *   loadtest.clients        concurrent clients               (default 400)
+ *   loadtest.seconds        measured seconds per mode        (default 20)
+ *   loadtest.warmup         warm-up seconds per mode         (default 5)
+ *   loadtest.db-latency-ms  simulated DB time per checkout   (default 5)
+ *   loadtest.pool-size      Hikari maximum-pool-size         (default 40)
+ *   loadtest.tomcat-threads Tomcat max threads, platform run (default 200)
+ */
+public final class LoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 400);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 20);
+    private static final int WARMUP = Integer.getInteger("loadtest.warmup", 5);
+    private static final long DB_LATENCY_MS = Long.getLong("loadtest.db-latency-ms", 5);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool-size", 40);
+    private static final int TOMCAT_THREADS = Integer.getInteger("loadtest.tomcat-threads", 200);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> results = new ArrayList<>();
+        results.add(run("platform",
+                "--spring.threads.virtual.enabled=false",
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS));
+        results.add(run("virtual",
+                "--spring.profiles.active=virtual"));
+
+        System.out.printf("%nclients=%d, db latency=%d ms, pool=%d%n", CLIENTS, DB_LATENCY_MS, POOL_SIZE);
+        System.out.printf("%-10s %12s %10s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        results.forEach(System.out::println);
+    }
+
+    private static String run(String mode, String... modeArgs) throws Exception {
+        String[] args = Arrays.copyOf(modeArgs, modeArgs.length + 1);
+        args[modeArgs.length] = "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE;
+
+        try (ConfigurableApplicationContext context = BenchmarkApp.start(LoadTest::addDbLatency, args)) {
+            String token = seed(context);
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/transactions/page?size=20");
+
+            measure(uri, token, WARMUP);
+            Result result = measure(uri, token, SECONDS);
+
+            long[] latencies = result.latencies();
+            Arrays.sort(latencies);
+            return String.format("%-10s %12.1f %10.2f %10.2f %10.2f %8d", mode,
+                    latencies.length / (double) SECONDS,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6,
+                    result.errors());
+        }
+    }
+
+    // CLIENTS virtual-thread clients, each sending requests back to back for the given time
+    private static Result measure(URI uri, String token, int seconds) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> clients = new ArrayList<>(CLIENTS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> {
+                    long[] samples = new long[1024];
+                    int n = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (n == samples.length) {
+                            samples = Arrays.copyOf(samples, n * 2);
+                        }
+                        samples[n++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(samples, n);
+                }));
+            }
+
+            long[] all = new long[0];
+            for (Future<long[]> future : clients) {
+                long[] samples = future.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + samples.length);
+                System.arraycopy(samples, 0, all, offset, samples.length);
+            }
+            return new Result(all, errors.get());
+        }
+    }
+
+    // A user with a wallet and 200 transactions; returns a token for them
+    private static String seed(ConfigurableApplicationContext context) {
+        BenchmarkApp.Fixture fixture = BenchmarkApp.seedGroup(context, 1);
+        TransactionService transactions = context.getBean(TransactionService.class);
+        for (int i = 0; i < 200; i++) {
+            TransactionRequest request = new TransactionRequest();
+            request.setAmount(new BigDecimal("12.50"));
+            request.setDescription("Load " + i);
+            request.setDate(LocalDate.now().minusDays(i % 60));
+            request.setType(TransactionType.EXPENSE);
+            request.setWalletId(fixture.wallet().getId());
+            transactions.createTransaction(request, fixture.payer());
+        }
+        return context.getBean(JwtService.class).generateToken(fixture.payer());
+    }
+
+    // Hold every checked-out connection for DB_LATENCY_MS, like a query against a remote MySQL
+    private static void addDbLatency(ConfigurableApplicationContext context) {
+        context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DB_LATENCY_MS > 0) {
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            Connection connection = super.getConnection();
+                            try {
+                                Thread.sleep(DB_LATENCY_MS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return connection;
+                        }
+                    };
+                }
+                return bean;
+            }
+        });
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private record Result(long[] latencies, long errors) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.dto.TransactionPage;
+import com.finance.tracker.dto.TransactionSearch;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.service.TransactionImportService;
+import com.finance.tracker.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of GET /api/transactions/search on an account with 100k transactions:
+ * a word search, a type + date range filter and an amount range filter.
+ * On H2 the word search is a LIKE scan of the user's rows; with -Dbench.db-url pointing at
+ * MySQL the FULLTEXT index from V2_1__transaction_fulltext.sql is created and used instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final String[] WORDS = {"coffee", "groceries", "rent", "salary", "fuel", "dinner", "books", "taxi"};
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private User user;
+    private TransactionSearch byWord;
+    private TransactionSearch byTypeAndDate;
+    private TransactionSearch byAmount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        boolean mysql = System.getProperty("bench.db-url") != null;
+        context = BenchmarkApp.start("--search.fulltext=" + mysql);
+        transactionService = context.getBean(TransactionService.class);
+
+        BenchmarkApp.Fixture fixture = BenchmarkApp.seedGroup(context, 1);
+        user = fixture.payer();
+
+        // 100k rows over ~3 years through the bulk import
+        StringBuilder rows = new StringBuilder("date,description,amount,type,walletId\n");
+        for (int i = 0; i < ROWS; i++) {
+            rows.append(LocalDate.now().minusDays(i % 1000)).append(',')
+                    .append(WORDS[i % WORDS.length]).append(" #").append(i).append(',')
+                    .append(1 + i % 500).append(".00,").append(i % 3 == 0 ? "INCOME" : "EXPENSE").append(',')
+                    .append(fixture.wallet().getId()).append('\n');
+        }
+        context.getBean(TransactionImportService.class)
+                .importCsv(new ByteArrayInputStream(rows.toString().getBytes(StandardCharsets.UTF_8)), user);
+
+        if (mysql) {
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            jdbc.execute("CREATE FULLTEXT INDEX ft_transactions_description ON transactions (description)");
+            jdbc.execute("ANALYZE TABLE transactions");
+        }
+
+        byWord = new TransactionSearch();
+        byWord.setQ("coffee");
+
+        byTypeAndDate = new TransactionSearch();
+        byTypeAndDate.setType(TransactionType.INCOME);
+        byTypeAndDate.setFrom(LocalDate.now().minusDays(400));
+        byTypeAndDate.setTo(LocalDate.now().minusDays(300));
+
+        byAmount = new TransactionSearch();
+        byAmount.setMinAmount(new BigDecimal("100.00"));
+        byAmount.setMaxAmount(new BigDecimal("120.00"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionPage word() {
+        return transactionService.searchTransactions(user, byWord, null, 50);
+    }
+
+    @Benchmark
+    public TransactionPage typeAndDateRange() {
+        return transactionService.searchTransactions(user, byTypeAndDate, null, 50);
+    }
+
+    @Benchmark
+    public TransactionPage amountRange() {
+        return transactionService.searchTransactions(user, byAmount, null, 50);
+    }
+}
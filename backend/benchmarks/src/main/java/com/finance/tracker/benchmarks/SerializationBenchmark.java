@@ -0,0 +1,97 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Group;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.Role;
+import com.finance.tracker.model.enums.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of a page of group transactions: entity graphs (each transaction drags
+ * its group and every member along) versus the flat TransactionResponse read model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"5", "50"})
+    private int groupSize;
+
+    private ObjectMapper objectMapper;
+    private List<Transaction> entities;
+    private List<TransactionResponse> responses;
+    private Group group;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+
+        Set<User> members = new HashSet<>();
+        for (long i = 1; i <= groupSize; i++) {
+            members.add(User.builder().id(i).username("member" + i).email("member" + i + "@bench.local")
+                    .password("secret").role(Role.USER).build());
+        }
+        User payer = members.iterator().next();
+        Wallet wallet = Wallet.builder().id(1L).name("Cash").balance(new BigDecimal("1000.00"))
+                .currency("LKR").user(payer).build();
+        Category category = Category.builder().id(1L).name("Food").type(TransactionType.EXPENSE).build();
+        group = Group.builder().id(1L).name("Trip").description("Bench").members(members).createdBy(payer).build();
+
+        entities = new ArrayList<>();
+        responses = new ArrayList<>();
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            Transaction tx = Transaction.builder().id(i).amount(new BigDecimal("12.50")).description("Lunch " + i)
+                    .date(LocalDate.now()).type(TransactionType.EXPENSE)
+                    .user(payer).wallet(wallet).category(category).group(group).build();
+            entities.add(tx);
+            responses.add(new TransactionResponse(tx.getId(), tx.getAmount(), tx.getDescription(), tx.getDate(),
+                    tx.getType(), payer.getId(), payer.getName(), payer.getEmail(), wallet.getId(), wallet.getName(),
+                    category.getId(), category.getName(), group.getId(), group.getName()));
+        }
+    }
+
+    @Benchmark
+    public byte[] transactionEntities() {
+        return objectMapper.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public byte[] transactionResponses() {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] groupEntity() {
+        return objectMapper.writeValueAsBytes(group);
+    }
+}
@@ -0,0 +1,70 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// Creating a group bill split between N users, end to end through TransactionService
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+
+    @Param({"2", "20", "100"})
+    private int splitUsers;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private User payer;
+    private TransactionRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start();
+        transactionService = context.getBean(TransactionService.class);
+
+        BenchmarkApp.Fixture fixture = BenchmarkApp.seedGroup(context, splitUsers);
+        payer = fixture.payer();
+
+        request = new TransactionRequest();
+        request.setAmount(new BigDecimal("100.00"));
+        request.setDescription("Dinner");
+        request.setDate(LocalDate.now());
+        request.setType(TransactionType.EXPENSE);
+        request.setWalletId(fixture.wallet().getId());
+        request.setGroupId(fixture.group().getId());
+        request.setSplitUserIds(fixture.members().stream().map(User::getId).toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object createGroupExpense() {
+        return transactionService.createTransaction(request, payer);
+    }
+}
@@ -4,6 +4,8 @@ import com.finance.tracker.config.JwtService;
 import com.finance.tracker.model.User;
 import com.finance.tracker.model.enums.Role;
 import com.finance.tracker.repository.UserRepository;
+import com.finance.tracker.service.MonthlyRollupService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -11,6 +13,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed("tracker.service")
 @RequiredArgsConstructor
 public class AuthenticationService {
 
@@ -18,6 +21,7 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final MonthlyRollupService rollupService;
 
     // 1. Register Method (Register a new user - Signup)
     public AuthenticationResponse register(RegisterRequest request) {
@@ -29,6 +33,7 @@ public class AuthenticationService {
                 .build();
         
         repository.save(user); // save to the database
+        rollupService.markComplete(user.getId()); // no history yet, so the rollups are complete
         
         var jwtToken = jwtService.generateToken(user); // generate the token
         return AuthenticationResponse.builder()
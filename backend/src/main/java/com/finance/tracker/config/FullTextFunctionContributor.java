@@ -0,0 +1,22 @@
+package com.finance.tracker.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers fulltext_match(column, booleanQuery) for HQL / Criteria, rendered as MySQL's
+ * MATCH (column) AGAINST (query IN BOOLEAN MODE). Needs a FULLTEXT index on the column
+ * (db/vendor/mysql/V2_1__transaction_fulltext.sql). Loaded by Hibernate through META-INF/services.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "fulltext_match",
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -1,5 +1,9 @@
 package com.finance.tracker.config;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,16 +18,25 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    // Time spent authenticating a Bearer request (token parse + principal lookup), not the request itself
+    private final Timer authenticated;
+    private final Timer rejected;
 
-    public JwtAuthenticationFilter(JwtService jwtService, @Lazy UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, @Lazy UserDetailsService userDetailsService,
+                                   PrincipalCache principalCache, MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.authenticated = Timer.builder("tracker.jwt.filter").tag("outcome", "authenticated").register(meterRegistry);
+        this.rejected = Timer.builder("tracker.jwt.filter").tag("outcome", "rejected").register(meterRegistry);
     }
 
     @Override
@@ -35,6 +48,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
+        final Claims claims;
         final String userEmail;
 
         // 1. Check if the header contains a Bearer token
@@ -43,16 +57,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 2. Extract the token
+        // 2. Extract the token and verify it (the only parse of this request)
+        long start = System.nanoTime();
         jwt = authHeader.substring(7); // Remove "Bearer " prefix
-        userEmail = jwtService.extractUsername(jwt);
+        try {
+            claims = jwtService.parseToken(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            // Bad signature, expired or malformed: continue unauthenticated
+            rejected.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            filterChain.doFilter(request, response);
+            return;
+        }
+        userEmail = claims.getSubject();
 
-        // 3. If user is not authenticated yet, check database
+        // 3. If user is not authenticated yet, load the user (cached per token, DB only on a miss)
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            UserDetails userDetails = principalCache.get(userEmail, claims.getIssuedAt(),
+                    userDetailsService::loadUserByUsername);
 
             // 4. Validate token and set security context
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (jwtService.isTokenValid(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -62,6 +86,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
+        Timer outcome = SecurityContextHolder.getContext().getAuthentication() != null ? authenticated : rejected;
+        outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         filterChain.doFilter(request, response);
     }
 }
@@ -0,0 +1,61 @@
+package com.finance.tracker.config;
+
+import com.finance.tracker.service.CategoryCache;
+import com.finance.tracker.service.SettlementService;
+import com.finance.tracker.service.WalletCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exports the hit / miss counters of the in-process caches (the ones behind /api/admin/caches)
+ * as cache.gets{cache, result}, cache.evictions{cache} and cache.size{cache}.
+ * Hikari pool gauges (hikaricp.connections.*), JVM and HTTP metrics come from actuator itself.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder cacheMetrics(PrincipalCache principalCache, CategoryCache categoryCache,
+                                    WalletCache walletCache, SettlementService settlementService) {
+        return registry -> {
+            bindCache(registry, "principals", principalCache, PrincipalCache::stats, PrincipalCache::size);
+            bindCache(registry, "categories", categoryCache, CategoryCache::stats, CategoryCache::size);
+            bindCache(registry, "wallets", walletCache, WalletCache::stats, WalletCache::size);
+            bindCache(registry, "settlements", settlementService, SettlementService::stats, SettlementService::size);
+        };
+    }
+
+    // Picked up by the application task executor: work fanned out by a request counts towards its QueryStats
+    @Bean
+    public TaskDecorator queryStatsPropagation() {
+        return QueryStats::propagate;
+    }
+
+    // The cache beans are singletons, so the meters' weak references to them stay valid
+    private static <T> void bindCache(MeterRegistry registry, String name, T cache,
+                                      Function<T, CacheStats> stats, ToLongFunction<T> size) {
+        FunctionCounter.builder("cache.gets", cache, c -> stats.apply(c).hitCount())
+                .tag("cache", name).tag("result", "hit")
+                .description("Cache lookups served from memory")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> stats.apply(c).missCount())
+                .tag("cache", name).tag("result", "miss")
+                .description("Cache lookups that had to load")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> stats.apply(c).evictionCount())
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", cache, c -> size.applyAsLong(c))
+                .tag("cache", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,82 @@
+package com.finance.tracker.config;
+
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.enums.Role;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * Authenticated principals keyed by (token subject, token issued-at).
+ * Saves the user lookup on every API call; bounded in size and evicted after a TTL.
+ * The cache holds an immutable snapshot (id, email, name, role) and every request gets its
+ * own User built from it, so no entity instance is shared between concurrent requests.
+ *
+ * UserCacheEvictionListener drops a user's entries when the row changes through JPA on this
+ * instance. Changes made with bulk / native UPDATEs or on another instance are not seen:
+ * security.principal-cache.ttl is the bound on how long an old role stays valid there.
+ * Misses are loaded on the request thread, outside the map lock (see ReadThroughCache).
+ */
+@Component
+public class PrincipalCache {
+
+    private final ReadThroughCache<PrincipalKey, CachedPrincipal> cache;
+
+    public PrincipalCache(
+            @Value("${security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${security.principal-cache.ttl:5m}") Duration ttl
+    ) {
+        this.cache = new ReadThroughCache<>(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl));
+    }
+
+    // Principal for this token, loaded on a miss; a new User instance on every call
+    public UserDetails get(String subject, Date issuedAt, Function<String, UserDetails> loader) {
+        PrincipalKey key = new PrincipalKey(subject, issuedAt == null ? 0 : issuedAt.getTime());
+        return cache.get(key, k -> CachedPrincipal.of(loader.apply(k.subject()))).toUser();
+    }
+
+    // Drop every cached token of a user (password / role / email change, deletion).
+    // Loads still in flight are not cached either, as they may have read the old row.
+    public void invalidateUser(Long userId) {
+        cache.invalidateIf(principal -> principal.id().equals(userId));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private record PrincipalKey(String subject, long issuedAt) {
+    }
+
+    // No password: requests are authenticated by the token, not by the stored hash
+    private record CachedPrincipal(Long id, String email, String username, Role role) {
+
+        static CachedPrincipal of(UserDetails details) {
+            if (!(details instanceof User user)) {
+                throw new IllegalStateException("Unexpected principal type " + details.getClass().getName());
+            }
+            return new CachedPrincipal(user.getId(), user.getEmail(), user.getName(), user.getRole());
+        }
+
+        User toUser() {
+            return User.builder()
+                    .id(id)
+                    .email(email)
+                    .username(username)
+                    .role(role)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.finance.tracker.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Feeds QueryStats from Hibernate's JDBC events. Hibernate creates one per session
+ * (hibernate.session.events.auto in application.yml), and a session is used by one thread at a time.
+ * A JDBC batch counts as one statement: it is one round trip.
+ * SQL sent through JdbcTemplate (the CSV import) is not seen here.
+ */
+public class QueryCountingListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryStats.record(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryStats.record(System.nanoTime() - batchStart);
+    }
+}
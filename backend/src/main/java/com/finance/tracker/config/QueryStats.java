@@ -0,0 +1,75 @@
+package com.finance.tracker.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL statements run on behalf of one HTTP request, and the time spent waiting on them.
+ * Bound to the request thread by QueryStatsFilter, fed by QueryCountingListener, and carried
+ * into executor tasks (group overview, cache loads) by the task decorator in MetricsConfig.
+ *
+ * Tests can wrap a call in begin() / end() to assert its statement count.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private QueryStats() {
+    }
+
+    // Start counting for the current thread
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // Counts towards whatever request the calling thread is working for (nothing outside a request)
+    static void record(long elapsedNanos) {
+        QueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements.increment();
+            stats.nanos.add(elapsedNanos);
+        }
+    }
+
+    // The task counts towards the submitting thread's request
+    static Runnable propagate(Runnable task) {
+        QueryStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            QueryStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public long statements() {
+        return statements.sum();
+    }
+
+    public long dbTimeNanos() {
+        return nanos.sum();
+    }
+
+    public long dbTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanos.sum());
+    }
+}
@@ -0,0 +1,93 @@
+package com.finance.tracker.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements and database time of every request (outermost filter, so the
+ * principal lookup in the JWT filter counts too). Published as tracker.request.queries and
+ * tracker.request.db.time per endpoint; requests over the budget are logged with their numbers,
+ * which is where N+1 lazy loading shows up. QueryStatsHeaderAdvice adds the same numbers as headers.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final Duration dbTimeBudget;
+
+    public QueryStatsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${queries.budget.statements:20}") int statementBudget,
+            @Value("${queries.budget.db-time:500ms}") Duration dbTimeBudget
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.dbTimeBudget = dbTimeBudget;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        QueryStats stats = QueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats.end();
+            // Streamed bodies (StreamingResponseBody) keep counting after this point and are not included
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        long statements = stats.statements();
+
+        DistributionSummary.builder("tracker.request.queries")
+                .description("SQL statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+        Timer.builder("tracker.request.db.time")
+                .description("Time per request spent waiting on SQL statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.dbTimeNanos(), TimeUnit.NANOSECONDS);
+
+        if (statements > statementBudget || stats.dbTimeNanos() > dbTimeBudget.toNanos()) {
+            log.warn("Query budget exceeded: {} {} ran {} SQL statements ({} ms in the database), budget {} / {} ms",
+                    request.getMethod(), request.getRequestURI(), statements, stats.dbTimeMillis(),
+                    statementBudget, dbTimeBudget.toMillis());
+        }
+    }
+}
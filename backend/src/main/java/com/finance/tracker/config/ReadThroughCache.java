@@ -0,0 +1,65 @@
+package com.finance.tracker.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Caffeine cache whose misses are loaded on the caller's thread, outside the cache's map lock.
+ * The caller often already holds a JDBC connection (inside @Transactional), so the load must
+ * not wait on another thread for a second connection; and a JDBC call under the map lock would
+ * pin a virtual thread to its carrier.
+ *
+ * Two threads may load the same key at once; the first result is kept. A load that overlaps
+ * an invalidation is returned to its caller but not cached, as it may have read the old rows.
+ */
+public final class ReadThroughCache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // builder: size / expiry settings; stats are always recorded
+    public ReadThroughCache(Caffeine<Object, Object> builder) {
+        this.cache = builder.recordStats().build();
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long seen = invalidations.get();
+        V loaded = loader.apply(key);
+        V previous = cache.asMap().putIfAbsent(key, loaded);
+        if (previous != null) {
+            return previous;
+        }
+        // Checked after the put, so an invalidation either sees our entry or we see its count
+        if (invalidations.get() != seen) {
+            cache.asMap().remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    public void invalidateIf(Predicate<? super V> predicate) {
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(predicate);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
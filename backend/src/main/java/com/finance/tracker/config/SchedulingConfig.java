@@ -0,0 +1,10 @@
+package com.finance.tracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Turns on @Scheduled background jobs (e.g. the nightly rollup verification)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
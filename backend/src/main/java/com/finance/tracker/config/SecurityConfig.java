@@ -2,6 +2,7 @@ package com.finance.tracker.config;
 
 import com.finance.tracker.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -24,16 +25,28 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserRepository userRepository;
 
+    // The Prometheus scrape is anonymous only where the management port is off the public
+    // one (prod profile); elsewhere it needs the ADMIN role like the other actuator endpoints
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${metrics.public-scrape:false}") boolean publicScrape
+    ) throws Exception {
 
         http
             .csrf(csrf -> csrf.disable())
             .cors(org.springframework.security.config.Customizer.withDefaults())
-            .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/auth/**", "/h2-console/**").permitAll()
-                .anyRequest().authenticated()
-            )
+            .authorizeHttpRequests(auth -> {
+                auth
+                    .requestMatchers("/api/auth/**", "/h2-console/**").permitAll()
+                    .requestMatchers("/actuator/health/**", "/actuator/info").permitAll();
+                if (publicScrape) {
+                    auth.requestMatchers("/actuator/prometheus").permitAll();
+                }
+                auth
+                    .requestMatchers("/api/admin/**", "/actuator/**").hasAuthority("ADMIN")
+                    .anyRequest().authenticated();
+            })
             .sessionManagement(sess ->
                 sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
@@ -0,0 +1,41 @@
+package com.finance.tracker.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application counters, registered once so the hot paths only increment them.
+ * Timings of the service methods come from @Timed (tracker.service).
+ */
+@Component
+public class TrackerMetrics {
+
+    private final Counter splitRowsWritten;
+    private final Counter importRowsWritten;
+    private final Counter recurringOccurrencesBooked;
+
+    public TrackerMetrics(MeterRegistry registry) {
+        this.splitRowsWritten = Counter.builder("tracker.splits.written")
+                .description("Expense split rows inserted")
+                .register(registry);
+        this.importRowsWritten = Counter.builder("tracker.import.rows.written")
+                .description("Transactions inserted by CSV / JSON imports")
+                .register(registry);
+        this.recurringOccurrencesBooked = Counter.builder("tracker.recurring.materialized")
+                .description("Transactions booked from recurring rules")
+                .register(registry);
+    }
+
+    public void splitRowsWritten(int rows) {
+        splitRowsWritten.increment(rows);
+    }
+
+    public void importRowsWritten(int rows) {
+        importRowsWritten.increment(rows);
+    }
+
+    public void recurringOccurrencesBooked(int rows) {
+        recurringOccurrencesBooked.increment(rows);
+    }
+}
@@ -0,0 +1,39 @@
+package com.finance.tracker.config;
+
+import com.finance.tracker.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener on User: any update (password, role, email) or delete evicts the
+ * user's cached principals, so the next request re-reads them from the database.
+ * Evicts right away and again after commit, so a request that re-cached the old
+ * row in between does not keep it. Bulk / native UPDATEs bypass JPA callbacks; for
+ * those (and for other instances) the principal cache TTL is the bound.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+
+    private final PrincipalCache principalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        Long userId = user.getId();
+        principalCache.invalidateUser(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    principalCache.invalidateUser(userId);
+                }
+            });
+        }
+    }
+}
@@ -21,6 +21,8 @@ public class WebConfig {
                         .allowedOrigins(allowedOrigins.split(","))
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders(QueryStatsHeaderAdvice.QUERY_COUNT_HEADER,
+                                QueryStatsHeaderAdvice.QUERY_TIME_HEADER)
                         .allowCredentials(true);
             }
         };
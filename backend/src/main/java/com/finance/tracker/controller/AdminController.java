@@ -0,0 +1,37 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.config.PrincipalCache;
+import com.finance.tracker.dto.CacheStatsDTO;
+import com.finance.tracker.service.CategoryCache;
+import com.finance.tracker.service.SettlementService;
+import com.finance.tracker.service.WalletCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin") // ADMIN role only, see SecurityConfig
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final PrincipalCache principalCache;
+    private final SettlementService settlementService;
+    private final CategoryCache categoryCache;
+    private final WalletCache walletCache;
+
+    // Hit / miss counters of the in-process caches
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, CacheStatsDTO>> getCacheStats() {
+        Map<String, CacheStatsDTO> stats = new LinkedHashMap<>();
+        stats.put("principals", CacheStatsDTO.of(principalCache.stats(), principalCache.size()));
+        stats.put("categories", CacheStatsDTO.of(categoryCache.stats(), categoryCache.size()));
+        stats.put("wallets", CacheStatsDTO.of(walletCache.stats(), walletCache.size()));
+        stats.put("settlements", CacheStatsDTO.of(settlementService.stats(), settlementService.size()));
+        return ResponseEntity.ok(stats);
+    }
+}
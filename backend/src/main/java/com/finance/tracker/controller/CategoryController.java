@@ -6,9 +6,9 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
 import java.util.List;
 import com.finance.tracker.model.User;
-import com.finance.tracker.model.Category;
 import com.finance.tracker.service.CategoryService;
 import com.finance.tracker.dto.CategoryRequest;
+import com.finance.tracker.dto.CategoryResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -20,13 +20,13 @@ public class CategoryController {
 
     //1. get the categories for a user
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories(@AuthenticationPrincipal User user){
+    public ResponseEntity<List<CategoryResponse>> getAllCategories(@AuthenticationPrincipal User user){
         return ResponseEntity.ok(categoryService.getAllCategories(user));
     }
 
     //2. Create a new category
     @PostMapping
-    public ResponseEntity<Category> createCategory(
+    public ResponseEntity<CategoryResponse> createCategory(
         @RequestBody CategoryRequest request,
         @AuthenticationPrincipal User user
     ){
@@ -0,0 +1,33 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.dto.DashboardSummary;
+import com.finance.tracker.model.User;
+import com.finance.tracker.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    // Income / expense per month, category and wallet for an optional date range (yyyy-MM-dd)
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummary> getSummary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(dashboardService.getSummary(user, from, to));
+    }
+}
@@ -1,9 +1,19 @@
 package com.finance.tracker.controller;
 
 import org.springframework.web.bind.annotation.*;
-import com.finance.tracker.model.Group;
+import com.finance.tracker.service.GroupOverviewService;
 import com.finance.tracker.service.GroupService;
+import com.finance.tracker.service.SettlementService;
+import com.finance.tracker.dto.GroupOverview;
 import com.finance.tracker.dto.GroupRequest;
+import com.finance.tracker.dto.GroupResponse;
+import com.finance.tracker.dto.GroupSettlement;
+import com.finance.tracker.dto.PairBalance;
+import com.finance.tracker.dto.SettlementRequest;
+import com.finance.tracker.dto.SettlementResponse;
+import com.finance.tracker.dto.SettlementTransfer;
+import com.finance.tracker.dto.TransactionPage;
+import com.finance.tracker.dto.TransactionResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import java.util.List;
@@ -17,10 +27,12 @@ import lombok.RequiredArgsConstructor;
 public class GroupController {
 
     private final GroupService groupService;
+    private final SettlementService settlementService;
+    private final GroupOverviewService groupOverviewService;
 
     //1. Create a new group
     @PostMapping
-    public ResponseEntity<Group> createGroup(
+    public ResponseEntity<GroupResponse> createGroup(
         @RequestBody GroupRequest request,
         @AuthenticationPrincipal User user // Logged-in user
     ){
@@ -29,19 +41,35 @@ public class GroupController {
 
     // Find the groups for a user
     @GetMapping
-    public ResponseEntity<List<Group>> getMyGroups(@AuthenticationPrincipal User user){
+    public ResponseEntity<List<GroupResponse>> getMyGroups(@AuthenticationPrincipal User user){
         return ResponseEntity.ok(groupService.getMyGroups(user));
     }
 
+    // Settle-up plan for the logged-in user across all their groups
+    @GetMapping("/settlements")
+    public ResponseEntity<List<SettlementTransfer>> getMySettlements(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(settlementService.getMySettlements(user));
+    }
+
     // Get a specific group by ID
     @GetMapping("/{id}")
-    public ResponseEntity<Group> getGroupById(
+    public ResponseEntity<GroupResponse> getGroupById(
         @PathVariable Long id,
         @AuthenticationPrincipal User user
     ) {
         return ResponseEntity.ok(groupService.getGroupById(id, user));
     }
 
+    // Group, members, latest bills and balances in one call (for the group details page)
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<GroupOverview> getGroupOverview(
+        @PathVariable Long id,
+        @RequestParam(required = false) Integer size,
+        @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(groupOverviewService.getOverview(id, size, user));
+    }
+
     // Get group members
     @GetMapping("/{id}/members")
     public ResponseEntity<?> getGroupMembers(
@@ -53,10 +81,50 @@ public class GroupController {
 
     // Get group transactions
     @GetMapping("/{id}/transactions")
-    public ResponseEntity<List<com.finance.tracker.model.Transaction>> getGroupTransactions(
+    public ResponseEntity<List<TransactionResponse>> getGroupTransactions(
         @PathVariable Long id,
         @AuthenticationPrincipal User user
     ) {
         return ResponseEntity.ok(groupService.getGroupTransactions(id, user));
     }
+
+    // Cursor-paginated group bills: pass back "nextCursor" to get the following page
+    @GetMapping("/{id}/transactions/page")
+    public ResponseEntity<TransactionPage> getGroupTransactionPage(
+        @PathVariable Long id,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(groupOverviewService.getTransactionPage(id, cursor, size, user));
+    }
+
+    // Who owes whom in the group, and the fewest payments that settle it
+    @GetMapping("/{id}/settlements")
+    public ResponseEntity<GroupSettlement> getGroupSettlement(
+        @PathVariable Long id,
+        @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(settlementService.getGroupSettlement(id, user));
+    }
+
+    // Record a payment to another member
+    @PostMapping("/{id}/settlements")
+    public ResponseEntity<SettlementResponse> recordPayment(
+        @PathVariable Long id,
+        @RequestBody SettlementRequest request,
+        @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(settlementService.recordPayment(id, request, user));
+    }
+
+    // How much I owe one member of the group (negative = they owe me)
+    @GetMapping("/{id}/balances/{userId}")
+    public ResponseEntity<PairBalance> getPairBalance(
+        @PathVariable Long id,
+        @PathVariable Long userId,
+        @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(settlementService.getPairBalance(id, userId, user));
+    }
 }
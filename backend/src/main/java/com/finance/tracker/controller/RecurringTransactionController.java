@@ -0,0 +1,44 @@
+package com.finance.tracker.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import com.finance.tracker.service.RecurringTransactionService;
+import lombok.RequiredArgsConstructor;
+import com.finance.tracker.model.User;
+import java.util.List;
+import com.finance.tracker.dto.RecurringTransactionRequest;
+import com.finance.tracker.dto.RecurringTransactionResponse;
+
+@RestController
+@RequestMapping("/api/recurring")
+@RequiredArgsConstructor
+public class RecurringTransactionController {
+
+    private final RecurringTransactionService recurringService;
+
+    //1. list the user's recurring transactions
+    @GetMapping
+    public ResponseEntity<List<RecurringTransactionResponse>> getMine(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(recurringService.getMine(user));
+    }
+
+    //2. create a recurring transaction (occurrences are booked by RecurringTransactionJob)
+    @PostMapping
+    public ResponseEntity<RecurringTransactionResponse> create(
+        @RequestBody RecurringTransactionRequest request,
+        @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(recurringService.create(request, user));
+    }
+
+    //3. stop a recurring transaction
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(
+        @PathVariable Long id,
+        @AuthenticationPrincipal User user
+    ) {
+        recurringService.delete(id, user);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.dto.RollupVerification;
+import com.finance.tracker.model.User;
+import com.finance.tracker.service.MonthlyRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final MonthlyRollupService rollupService;
+
+    // Compare my monthly rollups with my raw transactions
+    @GetMapping("/rollups/verify")
+    public ResponseEntity<RollupVerification> verifyRollups(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(rollupService.verify(user.getId()));
+    }
+
+    // Recompute my monthly rollups from scratch (also used to backfill existing accounts)
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<RollupVerification> rebuildRollups(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(rollupService.rebuild(user.getId()));
+    }
+}
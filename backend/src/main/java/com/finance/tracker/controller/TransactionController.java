@@ -1,14 +1,28 @@
 package com.finance.tracker.controller;
 
+import com.finance.tracker.dto.ImportResult;
+import com.finance.tracker.dto.TransactionPage;
 import com.finance.tracker.dto.TransactionRequest;
-import com.finance.tracker.model.Transaction;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.dto.TransactionSearch;
 import com.finance.tracker.model.User;
+import com.finance.tracker.service.TransactionColumnarFormat;
+import com.finance.tracker.service.TransactionExportService;
+import com.finance.tracker.service.TransactionImportService;
 import com.finance.tracker.service.TransactionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -17,9 +31,12 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService service;
+    private final TransactionImportService importService;
+    private final TransactionExportService exportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
-    public ResponseEntity<Transaction> createTransaction(
+    public ResponseEntity<TransactionResponse> createTransaction(
             @RequestBody TransactionRequest request,
             @AuthenticationPrincipal User user
     ) {
@@ -27,10 +44,87 @@ public class TransactionController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Transaction>> getAllTransactions(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<TransactionResponse>> getAllTransactions(@AuthenticationPrincipal User user) {
         return ResponseEntity.ok(service.getMyTransactions(user));
     }
 
+    // Cursor-paginated history: pass back "nextCursor" to get the following page
+    @GetMapping("/page")
+    public ResponseEntity<TransactionPage> getTransactionPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(service.getTransactionPage(user, cursor, size));
+    }
+
+    // Filtered search (description words, amount / date range, type, wallet, category, group), cursor-paginated
+    @GetMapping("/search")
+    public ResponseEntity<TransactionPage> searchTransactions(
+            TransactionSearch search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User user
+    ) {
+        return ResponseEntity.ok(service.searchTransactions(user, search, cursor, size));
+    }
+
+    // Full history as newline-delimited JSON, written row by row while it is read
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@AuthenticationPrincipal User user) {
+        StreamingResponseBody body = out -> service.streamTransactions(user, tx -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(tx));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.ndjson\"")
+                .body(body);
+    }
+
+    // Full history as CSV (same columns as the import), streamed
+    @GetMapping(value = "/export/csv", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportCsv(@AuthenticationPrincipal User user) {
+        StreamingResponseBody body = out -> exportService.writeCsv(user, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.csv\"")
+                .body(body);
+    }
+
+    // Full history in the compact columnar format (see TransactionColumnarFormat), streamed
+    @GetMapping(value = "/export/columnar", produces = TransactionColumnarFormat.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportColumnar(@AuthenticationPrincipal User user) {
+        StreamingResponseBody body = out -> exportService.writeColumnar(user, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(TransactionColumnarFormat.MEDIA_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.txc\"")
+                .body(body);
+    }
+
+    // Bulk import from a bank CSV export (header: date,description,amount,type,walletId,categoryId)
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportResult> importCsv(
+            InputStream body,
+            @AuthenticationPrincipal User user
+    ) throws IOException {
+        return ResponseEntity.ok(importService.importCsv(body, user));
+    }
+
+    // Bulk import from a JSON array of transactions
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResult> importJson(
+            InputStream body,
+            @AuthenticationPrincipal User user
+    ) throws IOException {
+        return ResponseEntity.ok(importService.importJson(body, user));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTransaction(
             @PathVariable Long id,
@@ -5,10 +5,10 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import com.finance.tracker.service.WalletService;
 import lombok.RequiredArgsConstructor;
-import com.finance.tracker.model.Wallet;
 import com.finance.tracker.model.User;
 import java.util.List;
 import com.finance.tracker.dto.WalletRequest;
+import com.finance.tracker.dto.WalletResponse;
 
 
 @RestController
@@ -20,13 +20,13 @@ public class WalletController {
 
     //1.get the wallets for a user
     @GetMapping
-    public ResponseEntity<List<Wallet>> getWallets(@AuthenticationPrincipal User user){
+    public ResponseEntity<List<WalletResponse>> getWallets(@AuthenticationPrincipal User user){
         return ResponseEntity.ok(walletService.getWallets(user));
     }
 
     //2. create a new wallet
     @PostMapping
-    public ResponseEntity<Wallet> createWallet(
+    public ResponseEntity<WalletResponse> createWallet(
         @RequestBody WalletRequest request,
         @AuthenticationPrincipal User user
     ){
@@ -0,0 +1,18 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryResponse {
+    private Long id;
+    private String name;
+    private TransactionType type;
+    private Long userId; // null = global category, visible to everyone
+}
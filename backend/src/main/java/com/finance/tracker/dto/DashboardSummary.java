@@ -0,0 +1,25 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummary {
+    private LocalDate from;        // null = since the first transaction
+    private LocalDate to;          // null = up to today and beyond
+    private BigDecimal totalBalance;   // current balance over all wallets
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpense;
+    private List<MonthlyTotal> months;
+    private List<CategoryTotal> categories;
+    private List<WalletTotal> wallets;
+}
@@ -0,0 +1,17 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// What one user owes another inside a group, summed over all splits (projection row, built by JPQL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DebtEdge {
+    private Long debtorId;
+    private Long creditorId;
+    private BigDecimal amount;
+}
@@ -0,0 +1,20 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Everything the group details page needs, in one response
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupOverview {
+    private GroupResponse group;
+    private List<UserDTO> members;
+    private TransactionPage transactions; // newest first; pass nextCursor to /transactions/page
+    private GroupSettlement settlement;   // per-member balances and settle-up transfers
+}
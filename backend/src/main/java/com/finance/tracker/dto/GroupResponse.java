@@ -0,0 +1,38 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.Group;
+import com.finance.tracker.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read model for a group: the creator as a small DTO and a member count instead of
+ * the member set, so serializing a group never touches lazy associations.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupResponse {
+    private Long id;
+    private String name;
+    private String description;
+    private UserDTO createdBy;
+    private Long memberCount;
+
+    // Flat constructor used by "SELECT new ..." queries
+    public GroupResponse(Long id, String name, String description,
+                         Long creatorId, String creatorName, String creatorEmail, Long memberCount) {
+        this(id, name, description, new UserDTO(creatorId, creatorName, creatorEmail), memberCount);
+    }
+
+    // Built from a group that is already in memory (e.g. right after createGroup)
+    public static GroupResponse from(Group group) {
+        User creator = group.getCreatedBy();
+        return new GroupResponse(group.getId(), group.getName(), group.getDescription(),
+                creator.getId(), creator.getName(), creator.getEmail(),
+                (long) group.getMembers().size());
+    }
+}
@@ -0,0 +1,18 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupSettlement {
+    private Long groupId;
+    private List<MemberBalance> balances;     // only users with a non-zero balance
+    private List<SettlementTransfer> transfers; // fewest payments that clear every balance
+}
@@ -0,0 +1,19 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResult {
+    private long imported;
+    private long failed;
+    private List<ImportError> errors;  // first errors only, see errorsTruncated
+    private boolean errorsTruncated;
+}
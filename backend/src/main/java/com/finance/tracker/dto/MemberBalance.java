@@ -0,0 +1,17 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBalance {
+    private UserDTO user;
+    private BigDecimal net; // positive = is owed money, negative = owes money
+}
@@ -0,0 +1,18 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Income vs expense for one calendar month (projection row, built by JPQL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyTotal {
+    private Integer year;
+    private Integer month; // 1 - 12
+    private BigDecimal income;
+    private BigDecimal expense;
+}
@@ -0,0 +1,20 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// What userId owes otherUserId in a group (negative = the other user owes userId)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PairBalance {
+    private Long groupId;
+    private Long userId;
+    private Long otherUserId;
+    private BigDecimal owes;
+}
@@ -0,0 +1,22 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.enums.RecurrenceFrequency;
+import com.finance.tracker.model.enums.TransactionType;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class RecurringTransactionRequest {
+    private BigDecimal amount;
+    private String description;
+    private TransactionType type;
+    private Long walletId;
+    private Long categoryId;
+    private RecurrenceFrequency frequency;
+    private Integer interval;   // every N periods, default 1 (not used for CRON)
+    private String cron;        // CRON only, Spring format: "sec min hour day-of-month month day-of-week"
+    private LocalDate startDate; // default today
+    private LocalDate endDate;   // optional
+}
@@ -0,0 +1,50 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.RecurringTransaction;
+import com.finance.tracker.model.enums.RecurrenceFrequency;
+import com.finance.tracker.model.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringTransactionResponse {
+    private Long id;
+    private BigDecimal amount;
+    private String description;
+    private TransactionType type;
+    private Long walletId;
+    private Long categoryId;
+    private RecurrenceFrequency frequency;
+    private int interval;
+    private String cron;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate nextDueDate; // null once the rule has ended
+    private long occurrenceCount;
+
+    public static RecurringTransactionResponse from(RecurringTransaction rule) {
+        return RecurringTransactionResponse.builder()
+                .id(rule.getId())
+                .amount(rule.getAmount())
+                .description(rule.getDescription())
+                .type(rule.getType())
+                .walletId(rule.getWalletId())
+                .categoryId(rule.getCategoryId())
+                .frequency(rule.getFrequency())
+                .interval(rule.getIntervalCount())
+                .cron(rule.getCron())
+                .startDate(rule.getStartDate())
+                .endDate(rule.getEndDate())
+                .nextDueDate(rule.getNextDueDate())
+                .occurrenceCount(rule.getOccurrenceCount())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Small {id, name} reference used inside response DTOs (wallet, category, group)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefDTO {
+    private Long id;
+    private String name;
+
+    // Returns null when the association is empty (LEFT JOIN gave no row)
+    public static RefDTO of(Long id, String name) {
+        return id == null ? null : new RefDTO(id, name);
+    }
+}
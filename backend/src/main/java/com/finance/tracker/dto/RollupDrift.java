@@ -0,0 +1,26 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// A rollup bucket whose stored value does not match the raw transactions
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupDrift {
+    private Long walletId;
+    private Long categoryId;
+    private LocalDate month;
+    private TransactionType type;
+    private BigDecimal expectedTotal;  // recomputed from transactions
+    private BigDecimal storedTotal;    // what monthly_rollups holds
+    private Long expectedCount;
+    private Long storedCount;
+}
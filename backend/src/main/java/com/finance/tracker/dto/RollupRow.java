@@ -0,0 +1,22 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// One rollup bucket recomputed from raw transactions (projection row, built by JPQL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupRow {
+    private Long walletId;
+    private Long categoryId;   // null = uncategorised
+    private Integer year;
+    private Integer month;
+    private TransactionType type;
+    private BigDecimal total;
+    private Long count;
+}
@@ -0,0 +1,19 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupVerification {
+    private Long userId;
+    private int bucketsChecked;
+    private boolean rebuilt;       // true if the rollups were recomputed afterwards
+    private List<RollupDrift> drifts;
+}
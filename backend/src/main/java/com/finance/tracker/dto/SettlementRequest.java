@@ -0,0 +1,15 @@
+package com.finance.tracker.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// "I paid toUserId this amount" inside a group
+@Data
+public class SettlementRequest {
+    private Long toUserId;
+    private BigDecimal amount;
+    private LocalDate date; // defaults to today
+    private String note;
+}
@@ -0,0 +1,23 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementResponse {
+    private Long id;
+    private Long groupId;
+    private UserDTO from;
+    private UserDTO to;
+    private BigDecimal amount;
+    private LocalDate date;
+    private String note;
+}
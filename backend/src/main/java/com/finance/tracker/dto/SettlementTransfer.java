@@ -0,0 +1,19 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// One settle-up payment: "from" pays "to" the amount
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementTransfer {
+    private UserDTO from;
+    private UserDTO to;
+    private BigDecimal amount;
+}
@@ -0,0 +1,34 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (date DESC, id DESC) ordering of a user's transactions.
+ * Sent to clients as an opaque URL-safe string: base64("yyyy-MM-dd:id").
+ */
+@Data
+@AllArgsConstructor
+public class TransactionCursor {
+    private LocalDate date;
+    private Long id;
+
+    public static String encode(TransactionResponse last) {
+        String raw = last.getDate() + ":" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new TransactionCursor(LocalDate.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
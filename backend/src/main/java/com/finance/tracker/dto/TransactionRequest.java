@@ -1,13 +1,15 @@
 package com.finance.tracker.dto;
 
 import lombok.Data;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import com.finance.tracker.model.enums.SplitMode;
 import com.finance.tracker.model.enums.TransactionType;
 import java.util.List;
 
 @Data
 public class TransactionRequest {
-    private Double amount;
+    private BigDecimal amount;
     private String description;
     private LocalDate date;
     private TransactionType type;
@@ -15,4 +17,6 @@ public class TransactionRequest {
     private Long categoryId;
     private Long groupId;         
     private List<Long> splitUserIds;
+    private SplitMode splitMode;          // null = EQUAL
+    private List<BigDecimal> splitValues; // one per splitUserIds entry, unused for EQUAL
 }
@@ -0,0 +1,60 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.Group;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.enums.TransactionType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read model for a transaction.
+ * Filled straight from a JPQL constructor expression, so one SQL query builds the
+ * whole response without loading Transaction entities or their lazy associations.
+ */
+@Data
+@NoArgsConstructor
+public class TransactionResponse {
+    private Long id;
+    private BigDecimal amount;
+    private String description;
+    private LocalDate date;
+    private TransactionType type;
+    private UserDTO user;      // who paid / recorded it
+    private RefDTO wallet;
+    private RefDTO category;   // null for uncategorised income
+    private RefDTO group;      // null for personal transactions
+
+    // Flat constructor used by "SELECT new ..." queries
+    public TransactionResponse(Long id, BigDecimal amount, String description, LocalDate date, TransactionType type,
+                               Long userId, String userName, String userEmail,
+                               Long walletId, String walletName,
+                               Long categoryId, String categoryName,
+                               Long groupId, String groupName) {
+        this.id = id;
+        this.amount = amount;
+        this.description = description;
+        this.date = date;
+        this.type = type;
+        this.user = new UserDTO(userId, userName, userEmail);
+        this.wallet = RefDTO.of(walletId, walletName);
+        this.category = RefDTO.of(categoryId, categoryName);
+        this.group = RefDTO.of(groupId, groupName);
+    }
+
+    // Built right after createTransaction. Wallet and category come from their caches;
+    // the entity only holds references to them.
+    public static TransactionResponse from(Transaction transaction, RefDTO wallet, RefDTO category) {
+        User user = transaction.getUser();
+        Group group = transaction.getGroup();
+        return new TransactionResponse(transaction.getId(), transaction.getAmount(), transaction.getDescription(),
+                transaction.getDate(), transaction.getType(),
+                user.getId(), user.getName(), user.getEmail(),
+                wallet.getId(), wallet.getName(),
+                category == null ? null : category.getId(), category == null ? null : category.getName(),
+                group == null ? null : group.getId(), group == null ? null : group.getName());
+    }
+}
@@ -0,0 +1,27 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.enums.TransactionType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Filters of GET /api/transactions/search, bound from query parameters.
+ * Every field is optional; the ones given are combined with AND.
+ */
+@Data
+public class TransactionSearch {
+    private String q;               // words in the description
+    private BigDecimal minAmount;   // inclusive
+    private BigDecimal maxAmount;   // inclusive
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;         // inclusive, yyyy-MM-dd
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;           // inclusive, yyyy-MM-dd
+    private TransactionType type;
+    private Long walletId;
+    private Long categoryId;
+    private Long groupId;
+}
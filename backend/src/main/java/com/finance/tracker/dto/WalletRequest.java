@@ -2,9 +2,11 @@ package com.finance.tracker.dto;
 
 import lombok.Data;
 
+import java.math.BigDecimal;
+
 @Data
 public class WalletRequest {
     private String name;
-    private Double balance;
+    private BigDecimal balance;
     private String currency;
 }
@@ -0,0 +1,18 @@
+package com.finance.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Income vs expense for one wallet (projection row, built by JPQL)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletTotal {
+    private Long walletId;
+    private String walletName;
+    private BigDecimal income;
+    private BigDecimal expense;
+}
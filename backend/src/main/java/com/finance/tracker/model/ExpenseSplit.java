@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -14,8 +16,11 @@ import lombok.NoArgsConstructor;
 @Table(name = "expense_splits")
 public class ExpenseSplit {
 
+    // Pooled sequence (a table on MySQL) instead of IDENTITY: Hibernate knows the ids
+    // before the INSERT, so all splits of a bill go out as one JDBC batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_splits_seq")
+    @SequenceGenerator(name = "expense_splits_seq", sequenceName = "expense_splits_seq", allocationSize = 50)
     private Long id;
 
     // 1.Identify the transaction (expense)
@@ -29,7 +34,7 @@ public class ExpenseSplit {
     private User user;
 
     // 3. How much is owed?
-    @Column(nullable = false)
-    private Double amount;
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
     
 }
\ No newline at end of file
@@ -32,7 +32,9 @@ public class Group {
     @JoinTable(
         name="group_members", // middle table name
         joinColumns = @JoinColumn(name="group_id"), // foreign key column for this entity
-        inverseJoinColumns = @JoinColumn(name="user_id") // foreign key column for the
+        inverseJoinColumns = @JoinColumn(name="user_id"), // foreign key column for the
+        // PK (group_id, user_id) serves membership checks; this one serves "my groups"
+        indexes = @Index(name = "idx_group_members_user_group", columnList = "user_id, group_id")
     )
 
     //we use set to avoid duplicate members
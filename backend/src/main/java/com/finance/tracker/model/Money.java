@@ -0,0 +1,119 @@
+package com.finance.tracker.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Money helpers.
+ * Amounts are stored as DECIMAL(19,2) / BigDecimal with scale 2 and handled as
+ * long minor units (cents) wherever we add them up or divide them, so loops work on
+ * primitives and every split adds back up to the exact bill total.
+ */
+public final class Money {
+
+    public static final int SCALE = 2;
+    public static final BigDecimal ZERO = BigDecimal.ZERO.setScale(SCALE);
+    // Largest amount that fits in long cents (92233720368547758.07); DECIMAL(19,2) columns hold it too
+    public static final BigDecimal MAX = BigDecimal.valueOf(Long.MAX_VALUE, SCALE);
+
+    private Money() {
+    }
+
+    // Normalise an incoming amount to scale 2; more than two decimals is an error, not a rounding
+    public static BigDecimal of(BigDecimal amount) {
+        try {
+            return amount.setScale(SCALE, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            throw new RuntimeException("Amounts can have at most " + SCALE + " decimal places: " + amount);
+        }
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return of(amount).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /**
+     * Split a total into equal parts that differ by at most one cent.
+     * The leftover cents go to the first (total % parts) parts, so the result
+     * is deterministic and always sums to the total. A negative total is split
+     * like its absolute value, with every part negated.
+     */
+    public static long[] splitEvenly(long totalCents, int parts) {
+        if (parts <= 0) {
+            throw new RuntimeException("Cannot split into " + parts + " parts");
+        }
+        if (totalCents < 0) {
+            return negate(splitEvenly(Math.negateExact(totalCents), parts));
+        }
+        long[] shares = new long[parts];
+        long base = totalCents / parts;
+        long remainder = totalCents % parts;
+        for (int i = 0; i < parts; i++) {
+            shares[i] = base + (i < remainder ? 1 : 0);
+        }
+        return shares;
+    }
+
+    /**
+     * Split a total in proportion to positive weights (largest remainder method).
+     * Every part gets floor(total * weight / sum of weights); the leftover cents go
+     * one each to the parts with the largest remainders, earlier parts first on ties,
+     * so the result is deterministic and always sums to the total. A negative total is
+     * allocated like its absolute value, with every part negated.
+     */
+    public static long[] allocate(long totalCents, long[] weights) {
+        int parts = weights.length;
+        if (parts == 0) {
+            throw new RuntimeException("Cannot split into 0 parts");
+        }
+        long weightSum = 0;
+        for (long weight : weights) {
+            if (weight <= 0) {
+                throw new RuntimeException("Split weights must be positive");
+            }
+            weightSum = Math.addExact(weightSum, weight);
+        }
+        if (totalCents < 0) {
+            return negate(allocate(Math.negateExact(totalCents), weights));
+        }
+
+        long[] shares = new long[parts];
+        long[] remainders = new long[parts];
+        long allocated = 0;
+        for (int i = 0; i < parts; i++) {
+            long product;
+            try {
+                product = Math.multiplyExact(totalCents, weights[i]);
+            } catch (ArithmeticException e) {
+                throw new RuntimeException("Amount is too large to split");
+            }
+            shares[i] = product / weightSum;
+            remainders[i] = product % weightSum;
+            allocated += shares[i];
+        }
+
+        // Fewer than 'parts' cents are left over
+        for (long left = totalCents - allocated; left > 0; left--) {
+            int best = 0;
+            for (int i = 1; i < parts; i++) {
+                if (remainders[i] > remainders[best]) {
+                    best = i;
+                }
+            }
+            shares[best]++;
+            remainders[best] = -1;
+        }
+        return shares;
+    }
+
+    private static long[] negate(long[] shares) {
+        for (int i = 0; i < shares.length; i++) {
+            shares[i] = -shares[i];
+        }
+        return shares;
+    }
+}
@@ -0,0 +1,61 @@
+package com.finance.tracker.model;
+
+import com.finance.tracker.model.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated totals per (user, wallet, category, month, type).
+ * Kept up to date by TransactionService in the same database transaction as the
+ * transaction itself, so reports can read a few rows instead of scanning history.
+ *
+ * Plain id columns are used instead of associations because rows are upserted with
+ * native SQL, and category_id = 0 stands for "no category" so the unique key also
+ * covers uncategorised income (MySQL treats NULLs in a unique key as distinct).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "monthly_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_monthly_rollups_key",
+            columnNames = {"user_id", "wallet_id", "category_id", "month_start", "type"})
+})
+public class MonthlyRollup {
+
+    public static final long NO_CATEGORY = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "wallet_id", nullable = false)
+    private Long walletId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    // First day of the month the bucket covers
+    @Column(name = "month_start", nullable = false)
+    private LocalDate month;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "tx_count", nullable = false)
+    private Long count;
+}
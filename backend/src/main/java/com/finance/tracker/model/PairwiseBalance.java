@@ -0,0 +1,43 @@
+package com.finance.tracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Running debt between two users inside a group, one row per pair.
+ * The pair is stored once with userA < userB; balance > 0 means A owes B,
+ * balance < 0 means B owes A. Split creation, split deletion and settlements
+ * add to it with an upsert (see PairwiseBalanceService), so "how much does A
+ * owe B" is a single-row read instead of a scan over every split.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "pairwise_balances", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_pairwise_balances_pair", columnNames = {"group_id", "user_a", "user_b"})
+})
+public class PairwiseBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "user_a", nullable = false)
+    private Long userA;
+
+    @Column(name = "user_b", nullable = false)
+    private Long userB;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+}
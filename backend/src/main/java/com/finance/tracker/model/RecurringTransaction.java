@@ -0,0 +1,75 @@
+package com.finance.tracker.model;
+
+import com.finance.tracker.model.enums.RecurrenceFrequency;
+import com.finance.tracker.model.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Template of a repeating transaction (rent, salary, subscriptions).
+ * RecurringTransactionJob turns every due occurrence into a Transaction and moves
+ * nextDueDate on; nextDueDate is null once the rule has ended.
+ * Plain id columns like PairwiseBalance: the job works on ids only and never needs the entities.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "recurring_transactions", indexes = {
+    // Each tick reads only due rules: WHERE next_due_date <= today ORDER BY next_due_date, id
+    @Index(name = "idx_recurring_transactions_due", columnList = "next_due_date, id"),
+    @Index(name = "idx_recurring_transactions_user", columnList = "user_id")
+})
+public class RecurringTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "wallet_id", nullable = false)
+    private Long walletId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurrenceFrequency frequency;
+
+    @Column(name = "interval_count", nullable = false)
+    private int intervalCount; // every N days / weeks / months / years
+
+    private String cron; // only for CRON
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate; // last possible occurrence, null = no end
+
+    @Column(name = "next_due_date")
+    private LocalDate nextDueDate; // null = ended
+
+    @Column(name = "occurrence_count", nullable = false)
+    private long occurrenceCount; // occurrences materialized so far
+}
@@ -0,0 +1,24 @@
+package com.finance.tracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per user whose monthly_rollups are known to cover all of their transactions.
+ * Written at registration (no history yet), by a rebuild and by a clean verification;
+ * removed when verification finds drift. DashboardService reads rollups only for these
+ * users and aggregates raw transactions for everyone else.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "rollup_status")
+public class RollupStatus {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Data
@@ -14,15 +15,28 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+    // Keyset pagination of a user's history: WHERE user_id = ? ORDER BY date DESC, id DESC
+    @Index(name = "idx_transactions_user_date_id", columnList = "user_id, date, id"),
+    // Same for a group's bills (group details page)
+    @Index(name = "idx_transactions_group_date_id", columnList = "group_id, date, id"),
+    // Filtered search (TransactionSearchRepositoryImpl), same keyset order.
+    // The FULLTEXT index on description has no JPA equivalent: see db/vendor/mysql/V2_1__transaction_fulltext.sql
+    @Index(name = "idx_transactions_wallet_date_id", columnList = "wallet_id, date, id"),
+    @Index(name = "idx_transactions_user_type_date_id", columnList = "user_id, type, date, id"),
+    @Index(name = "idx_transactions_user_category_date_id", columnList = "user_id, category_id, date, id")
+}, uniqueConstraints = {
+    // An occurrence of a recurring transaction is materialized at most once, whatever the job does
+    @UniqueConstraint(name = "uk_transactions_recurring_occurrence", columnNames = {"recurring_id", "occurrence_date"})
+})
 public class Transaction {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
-    private Double amount; // how much?
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount; // how much?
 
     @Column(nullable = false)
     private String description; // what for?
@@ -55,4 +69,11 @@ public class Transaction {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "group_id") // Can be nullable for personal transactions
     private Group group;
+
+    // 5. Set when created from a recurring transaction: which one, and which occurrence
+    @Column(name = "recurring_id")
+    private Long recurringId;
+
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate;
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.finance.tracker.config.UserCacheEvictionListener;
 import com.finance.tracker.model.enums.Role;
 
 import jakarta.persistence.*;
@@ -22,6 +23,7 @@ import java.util.List;
 @AllArgsConstructor // Constructor with all fields
 @Entity // Map this to the database table
 @Table(name = "users") // Specify the table name
+@EntityListeners(UserCacheEvictionListener.class) // Evict cached principals when the user changes
 
 public class User implements UserDetails {
 
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,8 +23,10 @@ public class Wallet {
     @Column(nullable = false)
     private String name; // ex: "My Savings", "Daily Expenses"
 
-    @Column(nullable = false)
-    private Double balance; // initial balance of the wallet
+    // Set on insert only; afterwards it changes through WalletRepository.applyDelta,
+    // so a stale entity flush can never overwrite a concurrent update
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal balance; // initial balance of the wallet
 
     @Column(nullable = false)
     private String currency; // "LKR", "USD" 
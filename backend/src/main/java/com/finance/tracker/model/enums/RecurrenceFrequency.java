@@ -0,0 +1,10 @@
+package com.finance.tracker.model.enums;
+
+// How often a recurring transaction falls due (see Recurrence)
+public enum RecurrenceFrequency {
+    DAILY,   // every 'interval' days
+    WEEKLY,  // every 'interval' weeks
+    MONTHLY, // every 'interval' months, on the start date's day (clamped to the month's last day)
+    YEARLY,  // every 'interval' years
+    CRON     // days matched by a Spring cron expression, e.g. "0 0 0 1,15 * *" (1st and 15th)
+}
@@ -0,0 +1,9 @@
+package com.finance.tracker.model.enums;
+
+// How a group bill is divided between the users in splitUserIds
+public enum SplitMode {
+    EQUAL,      // same amount each (default)
+    SHARES,     // proportional to splitValues, e.g. 2 / 1 / 1
+    PERCENTAGE, // splitValues are percentages adding up to 100
+    EXACT       // splitValues are the amounts, adding up to the bill
+}
@@ -1,13 +1,20 @@
 package com.finance.tracker.repository;
 
+import com.finance.tracker.dto.CategoryResponse;
 import com.finance.tracker.model.Category;
-import com.finance.tracker.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
-    // Magic method to get Categories for a specific User
-    // User can be null (public categories) or a specific user
-    List<Category> findByUserIsNullOrUser(User user);
-}
\ No newline at end of file
+    // Global categories (user is null), shared by everyone
+    @Query("SELECT new com.finance.tracker.dto.CategoryResponse(c.id, c.name, c.type, u.id) "
+            + "FROM Category c LEFT JOIN c.user u WHERE u IS NULL ORDER BY c.id")
+    List<CategoryResponse> findGlobal();
+
+    // Categories created by one user
+    @Query("SELECT new com.finance.tracker.dto.CategoryResponse(c.id, c.name, c.type, c.user.id) "
+            + "FROM Category c WHERE c.user.id = :userId ORDER BY c.id")
+    List<CategoryResponse> findByUserId(Long userId);
+}
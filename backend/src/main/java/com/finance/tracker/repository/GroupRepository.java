@@ -1,12 +1,44 @@
 package com.finance.tracker.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import com.finance.tracker.dto.GroupResponse;
+import com.finance.tracker.dto.UserDTO;
 import com.finance.tracker.model.Group;
-import com.finance.tracker.model.User;
 
 public interface GroupRepository extends JpaRepository<Group, Long> {
 
-    //Magic Query to find groups by member user
-    List<Group> findAllByMembersContaining(User user);
+    // Group read model with creator and member count, one SQL statement per call
+    String RESPONSE_SELECT = "SELECT new com.finance.tracker.dto.GroupResponse("
+            + "g.id, g.name, g.description, c.id, c.username, c.email, "
+            + "(SELECT COUNT(m2) FROM Group g2 JOIN g2.members m2 WHERE g2.id = g.id)) "
+            + "FROM Group g LEFT JOIN g.createdBy c ";
+
+    @Query(RESPONSE_SELECT + "WHERE g.id = :groupId")
+    Optional<GroupResponse> findResponseById(Long groupId);
+
+    @Query(RESPONSE_SELECT + "WHERE EXISTS (SELECT 1 FROM Group g3 JOIN g3.members m3 "
+            + "WHERE g3.id = g.id AND m3.id = :userId) ORDER BY g.id")
+    List<GroupResponse> findResponsesByMemberId(Long userId);
+
+    // Ids of the groups a user belongs to
+    @Query("SELECT g.id FROM Group g JOIN g.members m WHERE m.id = :userId")
+    List<Long> findGroupIdsByMemberId(Long userId);
+
+    // Membership check: a primary-key probe on group_members, independent of the group size
+    @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END "
+            + "FROM Group g JOIN g.members m WHERE g.id = :groupId AND m.id = :userId")
+    boolean isMember(Long groupId, Long userId);
+
+    // Member list as DTOs straight from the join table, without initializing Group.members
+    @Query("SELECT new com.finance.tracker.dto.UserDTO(m.id, m.username, m.email) "
+            + "FROM Group g JOIN g.members m WHERE g.id = :groupId ORDER BY m.username")
+    List<UserDTO> findMembersByGroupId(Long groupId);
+
+    // How many of the given users are members of the group (one query on group_members)
+    @Query("SELECT COUNT(m) FROM Group g JOIN g.members m WHERE g.id = :groupId AND m.id IN :userIds")
+    long countMembersIn(Long groupId, Collection<Long> userIds);
 }
@@ -0,0 +1,54 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.dto.CategoryTotal;
+import com.finance.tracker.dto.MonthlyTotal;
+import com.finance.tracker.dto.WalletTotal;
+import com.finance.tracker.model.MonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+
+    String INCOME_SUM = "SUM(CASE WHEN r.type = com.finance.tracker.model.enums.TransactionType.INCOME THEN r.total ELSE 0.0BD END)";
+    String EXPENSE_SUM = "SUM(CASE WHEN r.type = com.finance.tracker.model.enums.TransactionType.EXPENSE THEN r.total ELSE 0.0BD END)";
+    String USER_IN_RANGE = "WHERE r.userId = :userId AND r.month BETWEEN :from AND :to ";
+
+    // Atomic increment of one bucket; creates the row on first use
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO monthly_rollups "
+            + "(user_id, wallet_id, category_id, month_start, type, total, tx_count) "
+            + "VALUES (:userId, :walletId, :categoryId, :month, :type, :amount, :count) "
+            + "ON DUPLICATE KEY UPDATE total = total + :amount, tx_count = tx_count + :count")
+    void addToBucket(Long userId, Long walletId, Long categoryId, LocalDate month, String type,
+                     BigDecimal amount, Long count);
+
+    List<MonthlyRollup> findAllByUserId(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyRollup r WHERE r.userId = :userId")
+    void deleteAllByUserId(Long userId);
+
+    // --- Dashboard reads (a few hundred rows per user at most) ---
+
+    @Query("SELECT new com.finance.tracker.dto.MonthlyTotal(YEAR(r.month), MONTH(r.month), "
+            + INCOME_SUM + ", " + EXPENSE_SUM + ") FROM MonthlyRollup r " + USER_IN_RANGE
+            + "GROUP BY YEAR(r.month), MONTH(r.month) ORDER BY YEAR(r.month), MONTH(r.month)")
+    List<MonthlyTotal> sumByMonth(Long userId, LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.finance.tracker.dto.CategoryTotal(c.id, c.name, "
+            + INCOME_SUM + ", " + EXPENSE_SUM + ") FROM MonthlyRollup r "
+            + "LEFT JOIN Category c ON c.id = r.categoryId " + USER_IN_RANGE
+            + "GROUP BY c.id, c.name ORDER BY c.name")
+    List<CategoryTotal> sumByCategory(Long userId, LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.finance.tracker.dto.WalletTotal(w.id, w.name, "
+            + INCOME_SUM + ", " + EXPENSE_SUM + ") FROM MonthlyRollup r "
+            + "JOIN Wallet w ON w.id = r.walletId " + USER_IN_RANGE
+            + "GROUP BY w.id, w.name ORDER BY w.name")
+    List<WalletTotal> sumByWallet(Long userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,29 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.dto.DebtEdge;
+import com.finance.tracker.model.PairwiseBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+public interface PairwiseBalanceRepository extends JpaRepository<PairwiseBalance, Long> {
+
+    // Atomic increment of one pair; creates the row on first use
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO pairwise_balances (group_id, user_a, user_b, balance) "
+            + "VALUES (:groupId, :userA, :userB, :amount) "
+            + "ON DUPLICATE KEY UPDATE balance = balance + :amount")
+    void addToPair(Long groupId, Long userA, Long userB, BigDecimal amount);
+
+    // Single-row read through uk_pairwise_balances_pair
+    Optional<PairwiseBalance> findByGroupIdAndUserAAndUserB(Long groupId, Long userA, Long userB);
+
+    // Every open debt of a group as "userA owes userB balance" (negative = the other way round)
+    @Query("SELECT new com.finance.tracker.dto.DebtEdge(p.userA, p.userB, p.balance) "
+            + "FROM PairwiseBalance p WHERE p.groupId = :groupId AND p.balance <> 0")
+    List<DebtEdge> findOpenDebtsByGroupId(Long groupId);
+}
@@ -0,0 +1,25 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.model.RecurringTransaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
+
+    List<RecurringTransaction> findAllByUserIdOrderByIdAsc(Long userId);
+
+    // Due rules in (next_due_date, id) order, read from idx_recurring_transactions_due
+    @Query("SELECT r FROM RecurringTransaction r WHERE r.nextDueDate <= :today "
+            + "ORDER BY r.nextDueDate, r.id")
+    List<RecurringTransaction> findDue(LocalDate today, Pageable pageable);
+
+    // Next batch of the same run: after the last rule of the previous batch
+    @Query("SELECT r FROM RecurringTransaction r WHERE r.nextDueDate <= :today "
+            + "AND (r.nextDueDate > :dueDate OR (r.nextDueDate = :dueDate AND r.id > :id)) "
+            + "ORDER BY r.nextDueDate, r.id")
+    List<RecurringTransaction> findDueAfter(LocalDate today, LocalDate dueDate, Long id, Pageable pageable);
+}
@@ -0,0 +1,15 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.model.RollupStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface RollupStatusRepository extends JpaRepository<RollupStatus, Long> {
+
+    // Idempotent: marking a user twice (job and rebuild at once) is not a duplicate key
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO rollup_status (user_id) VALUES (:userId) "
+            + "ON DUPLICATE KEY UPDATE user_id = user_id")
+    void markComplete(Long userId);
+}
@@ -0,0 +1,31 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.model.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // Take the lease if it has expired, or extend it if we hold it. 1 = we hold it now
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.expiresAt = :until "
+            + "WHERE l.name = :name AND (l.expiresAt < :now OR l.owner = :owner)")
+    int takeOrExtend(String name, String owner, Instant now, Instant until);
+
+    // First use of a lease name; fails with a duplicate key if another node created it first
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (name, owner, expires_at) VALUES (:name, :owner, :until)",
+            nativeQuery = true)
+    int create(String name, String owner, Instant until);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.expiresAt = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(String name, String owner, Instant now);
+}
@@ -0,0 +1,7 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.model.Settlement;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SettlementRepository extends JpaRepository<Settlement, Long> {
+}
@@ -1,13 +1,79 @@
 package com.finance.tracker.repository;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import com.finance.tracker.dto.CategoryTotal;
+import com.finance.tracker.dto.MonthlyTotal;
+import com.finance.tracker.dto.RollupRow;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.dto.WalletTotal;
 import com.finance.tracker.model.Transaction;
-import com.finance.tracker.model.User;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    List<Transaction> findAllByUserOrderByDateDesc(User user);
-    List<Transaction> findAllByGroupOrderByDateDesc(com.finance.tracker.model.Group group);
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionSearchRepository {
+
+    // Shared projection for the paged/streamed history: one row per transaction, no entity loading
+    String RESPONSE_SELECT = "SELECT new com.finance.tracker.dto.TransactionResponse("
+            + "t.id, t.amount, t.description, t.date, t.type, "
+            + "u.id, u.username, u.email, w.id, w.name, c.id, c.name, g.id, g.name) "
+            + "FROM Transaction t JOIN t.user u JOIN t.wallet w LEFT JOIN t.category c LEFT JOIN t.group g ";
+
+    // Conditional sums shared by the dashboard aggregations (income and expense in one pass)
+    String INCOME_SUM = "SUM(CASE WHEN t.type = com.finance.tracker.model.enums.TransactionType.INCOME THEN t.amount ELSE 0.0BD END)";
+    String EXPENSE_SUM = "SUM(CASE WHEN t.type = com.finance.tracker.model.enums.TransactionType.EXPENSE THEN t.amount ELSE 0.0BD END)";
+    String USER_IN_RANGE = "WHERE t.user.id = :userId AND t.date BETWEEN :from AND :to ";
+
+    // Full history / group list as read models: one SQL statement, no lazy loading afterwards
+    @Query(RESPONSE_SELECT + "WHERE t.user.id = :userId ORDER BY t.date DESC, t.id DESC")
+    List<TransactionResponse> findResponsesByUserId(Long userId);
+
+    @Query(RESPONSE_SELECT + "WHERE t.group.id = :groupId ORDER BY t.date DESC, t.id DESC")
+    List<TransactionResponse> findResponsesByGroupId(Long groupId);
+
+    // Keyset pagination over (date DESC, id DESC), served by idx_transactions_user_date_id
+    // First page: no cursor yet
+    @Query(RESPONSE_SELECT + "WHERE t.user.id = :userId ORDER BY t.date DESC, t.id DESC")
+    List<TransactionResponse> findPageByUserId(Long userId, Pageable pageable);
+
+    // Next pages: everything strictly "older" than the last row the client saw
+    @Query(RESPONSE_SELECT + "WHERE t.user.id = :userId "
+            + "AND (t.date < :date OR (t.date = :date AND t.id < :id)) "
+            + "ORDER BY t.date DESC, t.id DESC")
+    List<TransactionResponse> findPageByUserIdAfter(Long userId, LocalDate date, Long id, Pageable pageable);
+
+    // Same keyset pagination for a group's bills, served by idx_transactions_group_date_id
+    @Query(RESPONSE_SELECT + "WHERE t.group.id = :groupId ORDER BY t.date DESC, t.id DESC")
+    List<TransactionResponse> findPageByGroupId(Long groupId, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + "WHERE t.group.id = :groupId "
+            + "AND (t.date < :date OR (t.date = :date AND t.id < :id)) "
+            + "ORDER BY t.date DESC, t.id DESC")
+    List<TransactionResponse> findPageByGroupIdAfter(Long groupId, LocalDate date, Long id, Pageable pageable);
+
+    // --- Dashboard aggregations (grouped in SQL, returned as projection rows) ---
+
+    @Query("SELECT new com.finance.tracker.dto.MonthlyTotal(YEAR(t.date), MONTH(t.date), "
+            + INCOME_SUM + ", " + EXPENSE_SUM + ") FROM Transaction t " + USER_IN_RANGE
+            + "GROUP BY YEAR(t.date), MONTH(t.date) ORDER BY YEAR(t.date), MONTH(t.date)")
+    List<MonthlyTotal> sumByMonth(Long userId, LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.finance.tracker.dto.CategoryTotal(c.id, c.name, "
+            + INCOME_SUM + ", " + EXPENSE_SUM + ") FROM Transaction t LEFT JOIN t.category c " + USER_IN_RANGE
+            + "GROUP BY c.id, c.name ORDER BY c.name")
+    List<CategoryTotal> sumByCategory(Long userId, LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.finance.tracker.dto.WalletTotal(w.id, w.name, "
+            + INCOME_SUM + ", " + EXPENSE_SUM + ") FROM Transaction t JOIN t.wallet w " + USER_IN_RANGE
+            + "GROUP BY w.id, w.name ORDER BY w.name")
+    List<WalletTotal> sumByWallet(Long userId, LocalDate from, LocalDate to);
+
+    // Monthly rollup buckets recomputed from raw rows (used to verify / rebuild monthly_rollups)
+    @Query("SELECT new com.finance.tracker.dto.RollupRow(t.wallet.id, c.id, YEAR(t.date), MONTH(t.date), t.type, "
+            + "SUM(t.amount), COUNT(t)) FROM Transaction t LEFT JOIN t.category c WHERE t.user.id = :userId "
+            + "GROUP BY t.wallet.id, c.id, YEAR(t.date), MONTH(t.date), t.type")
+    List<RollupRow> recomputeRollups(Long userId);
 }
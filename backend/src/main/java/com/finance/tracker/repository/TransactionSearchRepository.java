@@ -0,0 +1,14 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.dto.TransactionCursor;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.dto.TransactionSearch;
+
+import java.util.List;
+
+// Dynamic search over a user's transactions (custom fragment of TransactionRepository)
+public interface TransactionSearchRepository {
+
+    // Up to 'limit' matches older than 'after' (null = from the newest), in (date DESC, id DESC) order
+    List<TransactionResponse> search(Long userId, TransactionSearch search, TransactionCursor after, int limit);
+}
@@ -0,0 +1,138 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.dto.TransactionCursor;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.dto.TransactionSearch;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Group;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Criteria query built from the filters that are set, so MySQL only sees predicates it can
+ * use an index for: user_id (+ type / category_id) or wallet_id / group_id, each followed by
+ * (date, id) so the keyset ORDER BY needs no sort. Description words go to the FULLTEXT index
+ * (fulltext_match, see FullTextFunctionContributor) when search.fulltext is on, otherwise to LIKE.
+ */
+public class TransactionSearchRepositoryImpl implements TransactionSearchRepository {
+
+    // InnoDB's default innodb_ft_min_token_size: shorter words are not in the FULLTEXT index
+    private static final int MIN_FULLTEXT_WORD = 3;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${search.fulltext:false}")
+    private boolean fulltext;
+
+    @Override
+    public List<TransactionResponse> search(Long userId, TransactionSearch search, TransactionCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> t = query.from(Transaction.class);
+        Join<Transaction, User> u = t.join("user");
+        Join<Transaction, Wallet> w = t.join("wallet");
+        Join<Transaction, Category> c = t.join("category", JoinType.LEFT);
+        Join<Transaction, Group> g = t.join("group", JoinType.LEFT);
+
+        // Same columns as TransactionRepository.RESPONSE_SELECT
+        query.select(cb.construct(TransactionResponse.class,
+                t.get("id"), t.get("amount"), t.get("description"), t.get("date"), t.get("type"),
+                u.get("id"), u.get("username"), u.get("email"), w.get("id"), w.get("name"),
+                c.get("id"), c.get("name"), g.get("id"), g.get("name")));
+
+        // 1. Scope and the indexed filters
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.equal(t.get("user").get("id"), userId));
+        if (search.getWalletId() != null) {
+            where.add(cb.equal(t.get("wallet").get("id"), search.getWalletId()));
+        }
+        if (search.getCategoryId() != null) {
+            where.add(cb.equal(t.get("category").get("id"), search.getCategoryId()));
+        }
+        if (search.getGroupId() != null) {
+            where.add(cb.equal(t.get("group").get("id"), search.getGroupId()));
+        }
+        if (search.getType() != null) {
+            where.add(cb.equal(t.get("type"), search.getType()));
+        }
+
+        // 2. Ranges
+        if (search.getFrom() != null) {
+            where.add(cb.greaterThanOrEqualTo(t.get("date"), search.getFrom()));
+        }
+        if (search.getTo() != null) {
+            where.add(cb.lessThanOrEqualTo(t.get("date"), search.getTo()));
+        }
+        if (search.getMinAmount() != null) {
+            where.add(cb.greaterThanOrEqualTo(t.get("amount"), search.getMinAmount()));
+        }
+        if (search.getMaxAmount() != null) {
+            where.add(cb.lessThanOrEqualTo(t.get("amount"), search.getMaxAmount()));
+        }
+
+        // 3. Description words
+        if (search.getQ() != null) {
+            addTextPredicates(cb, t.get("description"), search.getQ(), where);
+        }
+
+        // 4. Keyset position: strictly older than the last row of the previous page
+        if (after != null) {
+            Expression<LocalDate> date = t.get("date");
+            where.add(cb.or(
+                    cb.lessThan(date, after.getDate()),
+                    cb.and(cb.equal(date, after.getDate()), cb.lessThan(t.get("id"), after.getId()))));
+        }
+
+        query.where(where.toArray(Predicate[]::new))
+                .orderBy(cb.desc(t.get("date")), cb.desc(t.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Every word must appear: indexable words as one boolean-mode MATCH, short ones (and all of them
+    // when full-text search is off) as a case-insensitive substring match
+    private void addTextPredicates(CriteriaBuilder cb, Expression<String> description, String q,
+                                   List<Predicate> where) {
+        StringBuilder booleanQuery = new StringBuilder();
+        for (String word : q.toLowerCase(Locale.ROOT).split("\\s+")) {
+            // Drop boolean-mode operators so user input can't change the query's meaning
+            String term = word.replaceAll("[+\\-<>()~*\"@]", "");
+            if (term.isEmpty()) {
+                continue;
+            }
+            if (fulltext && term.length() >= MIN_FULLTEXT_WORD) {
+                booleanQuery.append(booleanQuery.isEmpty() ? "" : " ").append('+').append(term).append('*');
+            } else {
+                where.add(cb.like(cb.lower(description), "%" + escapeLike(term) + "%", '\\'));
+            }
+        }
+        if (!booleanQuery.isEmpty()) {
+            where.add(cb.greaterThan(
+                    cb.function("fulltext_match", Double.class, description, cb.literal(booleanQuery.toString())),
+                    0.0));
+        }
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
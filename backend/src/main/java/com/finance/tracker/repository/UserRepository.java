@@ -1,11 +1,23 @@
 package com.finance.tracker.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import com.finance.tracker.dto.UserDTO;
 import com.finance.tracker.model.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    // Ids only, for background jobs that walk every user
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    // Names for a set of users without loading the entities
+    @Query("SELECT new com.finance.tracker.dto.UserDTO(u.id, u.username, u.email) FROM User u WHERE u.id IN :ids")
+    List<UserDTO> findDTOsByIdIn(Collection<Long> ids);
+
 }
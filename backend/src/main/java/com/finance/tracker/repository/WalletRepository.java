@@ -1,11 +1,27 @@
 package com.finance.tracker.repository;
+import com.finance.tracker.dto.WalletResponse;
 import com.finance.tracker.model.Wallet;
 import com.finance.tracker.model.User;
+import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface WalletRepository extends JpaRepository<Wallet, Long> {
     List<Wallet> findAllByUser(User userId);
 
+    // Wallets as read models, for WalletCache
+    @Query("SELECT new com.finance.tracker.dto.WalletResponse(w.id, w.name, w.balance, w.currency) "
+            + "FROM Wallet w WHERE w.user.id = :userId ORDER BY w.id")
+    List<WalletResponse> findResponsesByUserId(Long userId);
+
+    // Atomic balance change: the database applies the delta, so concurrent writers never
+    // overwrite each other. Only debits are guarded: returns 0 (nothing updated) if a negative
+    // delta would take the balance below zero. Credits always apply, even to a negative wallet.
+    @Modifying
+    @Query("UPDATE Wallet w SET w.balance = w.balance + :delta "
+            + "WHERE w.id = :walletId AND (:delta >= 0 OR w.balance + :delta >= 0)")
+    int applyDelta(Long walletId, BigDecimal delta);
 }
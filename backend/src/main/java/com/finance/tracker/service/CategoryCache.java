@@ -0,0 +1,98 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.config.ReadThroughCache;
+import com.finance.tracker.dto.CategoryResponse;
+import com.finance.tracker.repository.CategoryRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Categories visible to a user = the global categories + the user's own ones.
+ * Globals are one shared immutable snapshot, reloaded after a TTL (they are seed data,
+ * edited in the database rather than through the API). The per-user part is a bounded
+ * overlay dropped by createCategory; that eviction is local, so categories.cache.ttl
+ * bounds how long another instance misses a new category. Category lists and the
+ * category check in createTransaction are served from memory.
+ */
+@Component
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+    private final Duration globalTtl;
+    private final ReadThroughCache<Long, Map<Long, CategoryResponse>> userCategories;
+    private volatile Snapshot globals;
+
+    public CategoryCache(
+            CategoryRepository categoryRepository,
+            @Value("${categories.cache.global-ttl:10m}") Duration globalTtl,
+            @Value("${categories.cache.max-users:10000}") long maxUsers,
+            @Value("${categories.cache.ttl:1m}") Duration ttl
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.globalTtl = globalTtl;
+        this.userCategories = new ReadThroughCache<>(Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl));
+    }
+
+    // Global categories first, then the user's own, each in id order
+    public List<CategoryResponse> getAll(Long userId) {
+        List<CategoryResponse> all = new ArrayList<>(globals().byId().values());
+        all.addAll(own(userId).values());
+        return all;
+    }
+
+    // A category the user may use, or empty if it does not exist or belongs to someone else
+    public Optional<CategoryResponse> find(Long userId, Long categoryId) {
+        CategoryResponse category = globals().byId().get(categoryId);
+        return category != null ? Optional.of(category) : Optional.ofNullable(own(userId).get(categoryId));
+    }
+
+    // The user created or changed a category
+    public void invalidateUser(Long userId) {
+        userCategories.invalidate(userId);
+    }
+
+    public CacheStats stats() {
+        return userCategories.stats();
+    }
+
+    public long size() {
+        return userCategories.size();
+    }
+
+    private Snapshot globals() {
+        Snapshot snapshot = globals;
+        if (snapshot == null || snapshot.loadedAt() + globalTtl.toNanos() - System.nanoTime() < 0) {
+            // Two threads may both reload; the result is the same, and no lock is held over JDBC
+            snapshot = new Snapshot(byId(categoryRepository.findGlobal()), System.nanoTime());
+            globals = snapshot;
+        }
+        return snapshot;
+    }
+
+    private Map<Long, CategoryResponse> own(Long userId) {
+        return userCategories.get(userId, id -> byId(categoryRepository.findByUserId(id)));
+    }
+
+    // Unmodifiable, id order kept
+    private static Map<Long, CategoryResponse> byId(List<CategoryResponse> categories) {
+        return Collections.unmodifiableMap(categories.stream().collect(Collectors.toMap(
+                CategoryResponse::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new)));
+    }
+
+    private record Snapshot(Map<Long, CategoryResponse> byId, long loadedAt) {
+    }
+}
@@ -1,34 +1,48 @@
 package com.finance.tracker.service;
 
+import com.finance.tracker.dto.CategoryResponse;
 import com.finance.tracker.model.Category;
 import com.finance.tracker.repository.CategoryRepository;
 import com.finance.tracker.dto.CategoryRequest;
 import com.finance.tracker.model.User;
+import io.micrometer.core.annotation.Timed;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed("tracker.service")
 @RequiredArgsConstructor
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
 
-    //1. get all the categories
-    public List<Category> getAllCategories(User user){
-        return categoryRepository.findByUserIsNullOrUser(user);
+    //1. get all the categories (global + the user's own, from memory)
+    public List<CategoryResponse> getAllCategories(User user){
+        return categoryCache.getAll(user.getId());
     }
 
     //2. create a new category
-    public Category createCategory(CategoryRequest request, User user){
+    public CategoryResponse createCategory(CategoryRequest request, User user){
         var category = Category.builder()
                 .name(request.getName())
                 .type(request.getType())
                 .user(user)  // associate category with user
                 .build();  // build category object
 
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+
+        // The user's category list changed
+        categoryCache.invalidateUser(user.getId());
+
+        return CategoryResponse.builder()
+                .id(saved.getId())
+                .name(saved.getName())
+                .type(saved.getType())
+                .userId(user.getId())
+                .build();
     }
 
 }
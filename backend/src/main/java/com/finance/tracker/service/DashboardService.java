@@ -0,0 +1,85 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.DashboardSummary;
+import com.finance.tracker.dto.MonthlyTotal;
+import com.finance.tracker.dto.WalletResponse;
+import com.finance.tracker.model.Money;
+import com.finance.tracker.model.User;
+import com.finance.tracker.repository.MonthlyRollupRepository;
+import com.finance.tracker.repository.TransactionRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Timed("tracker.service")
+@RequiredArgsConstructor
+public class DashboardService {
+
+    // Bounds of the MySQL DATE type, used when the client leaves the range open
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final TransactionRepository transactionRepository;
+    private final WalletCache walletCache;
+    private final MonthlyRollupRepository rollupRepository;
+    private final MonthlyRollupService rollupService;
+
+    /**
+     * Build the dashboard summary for a date range (both ends inclusive, both optional).
+     * All grouping happens in SQL, so the response size depends on the number of
+     * months / categories / wallets, not on the number of transactions.
+     * Open or whole-month ranges read the monthly_rollups table; other ranges, and users
+     * whose rollups are not marked complete (history from before rollups, or drift found
+     * by RollupVerificationJob), aggregate the raw transactions.
+     */
+    @Transactional(readOnly = true)
+    public DashboardSummary getSummary(User user, LocalDate from, LocalDate to) {
+        LocalDate start = (from == null) ? MIN_DATE : from;
+        LocalDate end = (to == null) ? MAX_DATE : to;
+        if (start.isAfter(end)) {
+            throw new RuntimeException("Invalid range: 'from' must not be after 'to'");
+        }
+
+        // Whole-month ranges can be answered from monthly_rollups without touching transactions
+        boolean monthAligned = start.getDayOfMonth() == 1 && end.getDayOfMonth() == end.lengthOfMonth()
+                && rollupService.isComplete(user.getId());
+
+        List<MonthlyTotal> months = monthAligned
+                ? rollupRepository.sumByMonth(user.getId(), start, end)
+                : transactionRepository.sumByMonth(user.getId(), start, end);
+
+        // Grand totals are just the sum of the monthly buckets
+        long totalIncome = 0;
+        long totalExpense = 0;
+        for (MonthlyTotal month : months) {
+            totalIncome += Money.toCents(month.getIncome());
+            totalExpense += Money.toCents(month.getExpense());
+        }
+
+        // Balances from the wallet cache (fresh after every write, see WalletCache)
+        long totalBalance = 0;
+        for (WalletResponse wallet : walletCache.getAll(user.getId())) {
+            totalBalance += Money.toCents(wallet.getBalance());
+        }
+
+        return DashboardSummary.builder()
+                .from(from)
+                .to(to)
+                .totalBalance(Money.fromCents(totalBalance))
+                .totalIncome(Money.fromCents(totalIncome))
+                .totalExpense(Money.fromCents(totalExpense))
+                .months(months)
+                .categories(monthAligned
+                        ? rollupRepository.sumByCategory(user.getId(), start, end)
+                        : transactionRepository.sumByCategory(user.getId(), start, end))
+                .wallets(monthAligned
+                        ? rollupRepository.sumByWallet(user.getId(), start, end)
+                        : transactionRepository.sumByWallet(user.getId(), start, end))
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.finance.tracker.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Net balances of a set of users, in cents.
+ * Users are kept in a sorted long[] and looked up by binary search, so netting
+ * works on primitive arrays only (no boxed map entry per split).
+ */
+final class DebtLedger {
+
+    private final long[] userIds; // sorted, unique
+    private final long[] net;     // positive = is owed money, negative = owes money
+
+    private DebtLedger(long[] userIds) {
+        this.userIds = userIds;
+        this.net = new long[userIds.length];
+    }
+
+    // Ledger for debts "debtors[i] owes creditors[i] cents[i]"
+    static DebtLedger ofDebts(long[] debtors, long[] creditors, long[] cents) {
+        long[] ids = new long[debtors.length * 2];
+        System.arraycopy(debtors, 0, ids, 0, debtors.length);
+        System.arraycopy(creditors, 0, ids, debtors.length, creditors.length);
+        DebtLedger ledger = new DebtLedger(distinctSorted(ids));
+        for (int i = 0; i < debtors.length; i++) {
+            ledger.add(debtors[i], -cents[i]);
+            ledger.add(creditors[i], cents[i]);
+        }
+        return ledger;
+    }
+
+    // Ledger for already netted balances (e.g. summed over several groups)
+    static DebtLedger ofBalances(long[] userIds, long[] balances) {
+        DebtLedger ledger = new DebtLedger(distinctSorted(userIds.clone()));
+        for (int i = 0; i < userIds.length; i++) {
+            ledger.add(userIds[i], balances[i]);
+        }
+        return ledger;
+    }
+
+    int size() {
+        return userIds.length;
+    }
+
+    long userId(int index) {
+        return userIds[index];
+    }
+
+    long net(int index) {
+        return net[index];
+    }
+
+    // Index of a user of this ledger (negative if absent)
+    int indexOf(long userId) {
+        return Arrays.binarySearch(userIds, userId);
+    }
+
+    /**
+     * Greedy min-cash-flow: the largest debtor pays the largest creditor as much as
+     * the smaller of the two allows, until everyone is at zero.
+     * Every step clears at least one user, so there are at most (users - 1) transfers.
+     */
+    List<Transfer> settle() {
+        int n = userIds.length;
+        long[] rest = net.clone();
+
+        // Creditors and debtors ordered by amount, largest first
+        int[] creditors = indexesWhere(rest, 1);
+        int[] debtors = indexesWhere(rest, -1);
+
+        List<Transfer> transfers = new ArrayList<>(Math.max(0, n - 1));
+        int c = 0;
+        int d = 0;
+        while (c < creditors.length && d < debtors.length) {
+            int creditor = creditors[c];
+            int debtor = debtors[d];
+            long amount = Math.min(rest[creditor], -rest[debtor]);
+
+            transfers.add(new Transfer(userIds[debtor], userIds[creditor], amount));
+            rest[creditor] -= amount;
+            rest[debtor] += amount;
+
+            if (rest[creditor] == 0) {
+                c++;
+            }
+            if (rest[debtor] == 0) {
+                d++;
+            }
+        }
+        return transfers;
+    }
+
+    private void add(long userId, long cents) {
+        net[indexOf(userId)] += cents;
+    }
+
+    // Indexes of the entries with the given sign, ordered by absolute amount descending.
+    // Sorted on a primitive copy of the amounts; each index then takes the next free slot
+    // of its amount, so no index is boxed for a comparator.
+    private static int[] indexesWhere(long[] values, int sign) {
+        int count = 0;
+        for (long value : values) {
+            if (Long.signum(value) == sign) {
+                count++;
+            }
+        }
+        long[] amounts = new long[count]; // -|value|, so ascending order is largest first
+        int k = 0;
+        for (long value : values) {
+            if (Long.signum(value) == sign) {
+                amounts[k++] = -Math.abs(value);
+            }
+        }
+        Arrays.sort(amounts);
+
+        int[] order = new int[count];
+        int[] taken = new int[count]; // slots already used, per first position of an amount
+        for (int i = 0; i < values.length; i++) {
+            if (Long.signum(values[i]) == sign) {
+                int first = firstIndexOf(amounts, -Math.abs(values[i]));
+                order[first + taken[first]++] = i;
+            }
+        }
+        return order;
+    }
+
+    // Position of the first occurrence of key in a sorted array that contains it
+    private static int firstIndexOf(long[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long[] distinctSorted(long[] ids) {
+        Arrays.sort(ids);
+        int n = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (n == 0 || ids[i] != ids[n - 1]) {
+                ids[n++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, n);
+    }
+
+    // "fromUserId pays toUserId cents"
+    record Transfer(long fromUserId, long toUserId, long cents) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.GroupOverview;
+import com.finance.tracker.dto.GroupResponse;
+import com.finance.tracker.dto.GroupSettlement;
+import com.finance.tracker.dto.TransactionPage;
+import com.finance.tracker.dto.UserDTO;
+import com.finance.tracker.model.User;
+import com.finance.tracker.repository.GroupRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Data for the group details page in one call: the membership check runs once,
+ * then the group, its members, the first page of bills and the balance summary are
+ * loaded concurrently on the application task executor (virtual threads with the
+ * "virtual" profile, the bounded task pool otherwise).
+ */
+@Service
+@Timed("tracker.service")
+public class GroupOverviewService {
+
+    private final GroupService groupService;
+    private final GroupRepository groupRepository;
+    private final TransactionService transactionService;
+    private final SettlementService settlementService;
+    private final Executor executor;
+
+    public GroupOverviewService(
+            GroupService groupService,
+            GroupRepository groupRepository,
+            TransactionService transactionService,
+            SettlementService settlementService,
+            @Qualifier("applicationTaskExecutor") Executor executor
+    ) {
+        this.groupService = groupService;
+        this.groupRepository = groupRepository;
+        this.transactionService = transactionService;
+        this.settlementService = settlementService;
+        this.executor = executor;
+    }
+
+    public GroupOverview getOverview(Long groupId, Integer size, User user) {
+        // 1. One authorization pass for the whole page
+        groupService.checkAccess(groupId, user);
+
+        // 2. Independent reads, each in its own short transaction
+        CompletableFuture<GroupResponse> group = CompletableFuture.supplyAsync(() ->
+                groupRepository.findResponseById(groupId)
+                        .orElseThrow(() -> new RuntimeException("Group not found")), executor);
+        CompletableFuture<List<UserDTO>> members = CompletableFuture.supplyAsync(() ->
+                groupRepository.findMembersByGroupId(groupId), executor);
+        CompletableFuture<TransactionPage> transactions = CompletableFuture.supplyAsync(() ->
+                transactionService.getGroupTransactionPage(groupId, null, size), executor);
+        // A settlement cache miss is computed inside this task, so no task waits on another
+        CompletableFuture<GroupSettlement> settlement = CompletableFuture.supplyAsync(() ->
+                settlementService.settlementOf(groupId), executor);
+
+        // 3. Wait for all of them
+        return GroupOverview.builder()
+                .group(join(group))
+                .members(join(members))
+                .transactions(join(transactions))
+                .settlement(join(settlement))
+                .build();
+    }
+
+    // Further pages of the group's bills, after the first one in the overview
+    public TransactionPage getTransactionPage(Long groupId, String cursor, Integer size, User user) {
+        groupService.checkAccess(groupId, user);
+        return transactionService.getGroupTransactionPage(groupId, cursor, size);
+    }
+
+    // Rethrow what a task threw, so the usual error handling applies
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
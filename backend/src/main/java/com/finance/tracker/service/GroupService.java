@@ -1,7 +1,10 @@
 package com.finance.tracker.service;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import com.finance.tracker.dto.GroupRequest;
+import com.finance.tracker.dto.GroupResponse;
+import com.finance.tracker.dto.TransactionResponse;
 import com.finance.tracker.dto.UserDTO;
 import com.finance.tracker.model.Group;
 import com.finance.tracker.model.User;
@@ -10,11 +13,11 @@ import com.finance.tracker.repository.UserRepository;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("tracker.service")
 @RequiredArgsConstructor // Lombok annotation to generate constructor with required arguments
 public class GroupService {
 
@@ -23,64 +26,77 @@ public class GroupService {
     private final com.finance.tracker.repository.TransactionRepository transactionRepository;
 
     //1.create a new group
-    public Group createGroup(GroupRequest request, User creator){
+    @Transactional
+    public GroupResponse createGroup(GroupRequest request, User creator){
 
-        // find the friends by their IDs
-        Set<User> members = new HashSet<>();
-
-        // Add the creator to the members set
-        members.add(creator);
-
-        // Find the users by their IDs and add to members set
-        if (request.getMemberIds() != null && !request.getMemberIds().isEmpty()) {
-            List<User> foundUsers = userRepository.findAllById(request.getMemberIds());
-            members.addAll(foundUsers);
+        // Load the creator and the friends in one query. The principal is a detached copy
+        // (see PrincipalCache) and not equal to the managed User, so adding it directly would
+        // give a creator who lists their own id two group_members rows.
+        Set<Long> memberIds = new HashSet<>();
+        memberIds.add(creator.getId());
+        if (request.getMemberIds() != null) {
+            memberIds.addAll(request.getMemberIds());
         }
+        Set<User> members = new HashSet<>(userRepository.findAllById(memberIds));
+        User managedCreator = members.stream()
+                .filter(member -> member.getId().equals(creator.getId()))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("User not found"));
 
         // Create the group and save
         Group group = Group.builder()
                 .name(request.getName())
                 .description(request.getDescription())
-                .createdBy(creator) // Admin
+                .createdBy(managedCreator) // Admin
                 .members(members)   // Set of members
                 .build();
 
-        return groupRepository.save(group);
+        return GroupResponse.from(groupRepository.save(group));
     }
 
     // 2. get groups for a user
-    public List<Group> getMyGroups(User user) {
-        return groupRepository.findAllByMembersContaining(user);
+    public List<GroupResponse> getMyGroups(User user) {
+        return groupRepository.findResponsesByMemberId(user.getId());
     }
 
     // 3. Get group by ID
-    public Group getGroupById(Long groupId, User user) {
-        Group group = groupRepository.findById(groupId)
+    public GroupResponse getGroupById(Long groupId, User user) {
+        GroupResponse group = groupRepository.findResponseById(groupId)
                 .orElseThrow(() -> new RuntimeException("Group not found"));
         
         // Security check: Ensure user is a member of the group
-        if (!group.getMembers().contains(user)) {
-            throw new RuntimeException("Access denied: You are not a member of this group");
-        }
+        requireMember(groupId, user);
         
         return group;
     }
 
     // 4. Get group members
     public List<UserDTO> getGroupMembers(Long groupId, User user) {
-        Group group = getGroupById(groupId, user); // Reuse security check
-        return group.getMembers().stream()
-            .map(member -> UserDTO.builder()
-                .id(member.getId())
-                .username(member.getName())
-                .email(member.getEmail())
-                .build())
-            .collect(Collectors.toList());
+        checkAccess(groupId, user);
+        return groupRepository.findMembersByGroupId(groupId);
     }
 
     // 5. Get group transactions
-    public List<com.finance.tracker.model.Transaction> getGroupTransactions(Long groupId, User user) {
-        Group group = getGroupById(groupId, user); // Reuse security check
-        return transactionRepository.findAllByGroupOrderByDateDesc(group);
+    // One query with the user, wallet, category and group joined in, instead of 1 + 4N lazy loads
+    public List<TransactionResponse> getGroupTransactions(Long groupId, User user) {
+        checkAccess(groupId, user);
+        return transactionRepository.findResponsesByGroupId(groupId);
+    }
+
+    /**
+     * Security check without loading the group: the group must exist and the user must be in it.
+     * Both are single-row index lookups, so the cost does not grow with the member count.
+     */
+    public void checkAccess(Long groupId, User user) {
+        if (!groupRepository.existsById(groupId)) {
+            throw new RuntimeException("Group not found");
+        }
+        requireMember(groupId, user);
+    }
+
+    private void requireMember(Long groupId, User user) {
+        if (!groupRepository.isMember(groupId, user.getId())) {
+            throw new RuntimeException("Access denied: You are not a member of this group");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.RollupDrift;
+import com.finance.tracker.dto.RollupRow;
+import com.finance.tracker.dto.RollupVerification;
+import com.finance.tracker.model.Money;
+import com.finance.tracker.model.MonthlyRollup;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.repository.MonthlyRollupRepository;
+import com.finance.tracker.repository.RollupStatusRepository;
+import com.finance.tracker.repository.TransactionRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Timed("tracker.service")
+@RequiredArgsConstructor
+public class MonthlyRollupService {
+
+    private final MonthlyRollupRepository rollupRepository;
+    private final TransactionRepository transactionRepository;
+    private final RollupStatusRepository statusRepository;
+
+    /**
+     * Add (sign = 1) or remove (sign = -1) a transaction from its monthly bucket.
+     * Must run inside the caller's transaction so the rollup commits or rolls back with it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Transaction transaction, int sign) {
+        add(transaction.getUser().getId(),
+                transaction.getWallet().getId(),
+                transaction.getCategory() == null ? null : transaction.getCategory().getId(),
+                transaction.getDate(),
+                transaction.getType(),
+                sign < 0 ? transaction.getAmount().negate() : transaction.getAmount(),
+                sign);
+    }
+
+    // Low-level bucket increment, also used by bulk writers that pre-aggregate per bucket
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long userId, Long walletId, Long categoryId, LocalDate date, TransactionType type,
+                    BigDecimal amount, long count) {
+        rollupRepository.addToBucket(userId, walletId,
+                categoryId == null ? MonthlyRollup.NO_CATEGORY : categoryId,
+                date.withDayOfMonth(1), type.name(), amount, count);
+    }
+
+    // Compare stored rollups with a fresh aggregation of the user's transactions
+    @Transactional(readOnly = true)
+    public RollupVerification verify(Long userId) {
+        Map<String, RollupRow> expected = recompute(userId);
+        Map<String, MonthlyRollup> stored = new HashMap<>();
+        for (MonthlyRollup rollup : rollupRepository.findAllByUserId(userId)) {
+            stored.put(key(rollup.getWalletId(), rollup.getCategoryId(), rollup.getMonth(), rollup.getType()), rollup);
+        }
+
+        List<RollupDrift> drifts = new ArrayList<>();
+        for (Map.Entry<String, RollupRow> entry : expected.entrySet()) {
+            RollupRow row = entry.getValue();
+            MonthlyRollup rollup = stored.remove(entry.getKey());
+            BigDecimal storedTotal = rollup == null ? Money.ZERO : rollup.getTotal();
+            long storedCount = rollup == null ? 0 : rollup.getCount();
+            if (storedTotal.compareTo(row.getTotal()) != 0 || storedCount != row.getCount()) {
+                drifts.add(RollupDrift.builder()
+                        .walletId(row.getWalletId())
+                        .categoryId(row.getCategoryId())
+                        .month(LocalDate.of(row.getYear(), row.getMonth(), 1))
+                        .type(row.getType())
+                        .expectedTotal(row.getTotal())
+                        .storedTotal(storedTotal)
+                        .expectedCount(row.getCount())
+                        .storedCount(storedCount)
+                        .build());
+            }
+        }
+
+        // Whatever is left has no transactions behind it; empty buckets are fine
+        for (MonthlyRollup rollup : stored.values()) {
+            if (rollup.getTotal().signum() != 0 || rollup.getCount() != 0) {
+                drifts.add(RollupDrift.builder()
+                        .walletId(rollup.getWalletId())
+                        .categoryId(rollup.getCategoryId())
+                        .month(rollup.getMonth())
+                        .type(rollup.getType())
+                        .expectedTotal(Money.ZERO)
+                        .storedTotal(rollup.getTotal())
+                        .expectedCount(0L)
+                        .storedCount(rollup.getCount())
+                        .build());
+            }
+        }
+
+        return RollupVerification.builder()
+                .userId(userId)
+                .bucketsChecked(expected.size())
+                .drifts(drifts)
+                .build();
+    }
+
+    // Throw the user's rollups away and recompute them from raw transactions
+    @Transactional
+    public RollupVerification rebuild(Long userId) {
+        RollupVerification result = verify(userId);
+
+        rollupRepository.deleteAllByUserId(userId);
+        rollupRepository.flush();
+
+        List<MonthlyRollup> rollups = new ArrayList<>();
+        for (RollupRow row : recompute(userId).values()) {
+            rollups.add(MonthlyRollup.builder()
+                    .userId(userId)
+                    .walletId(row.getWalletId())
+                    .categoryId(row.getCategoryId() == null ? MonthlyRollup.NO_CATEGORY : row.getCategoryId())
+                    .month(LocalDate.of(row.getYear(), row.getMonth(), 1))
+                    .type(row.getType())
+                    .total(row.getTotal())
+                    .count(row.getCount())
+                    .build());
+        }
+        rollupRepository.saveAll(rollups);
+        statusRepository.markComplete(userId);
+
+        result.setRebuilt(true);
+        return result;
+    }
+
+    // Whether the dashboard may answer from the user's rollups (see RollupStatus)
+    @Transactional(readOnly = true)
+    public boolean isComplete(Long userId) {
+        return statusRepository.existsById(userId);
+    }
+
+    // After registration or a clean verification: every transaction is in a bucket
+    @Transactional
+    public void markComplete(Long userId) {
+        statusRepository.markComplete(userId);
+    }
+
+    // After drift is found: the dashboard goes back to raw transactions until a rebuild
+    @Transactional
+    public void markIncomplete(Long userId) {
+        statusRepository.deleteById(userId);
+    }
+
+    private Map<String, RollupRow> recompute(Long userId) {
+        Map<String, RollupRow> rows = new HashMap<>();
+        for (RollupRow row : transactionRepository.recomputeRollups(userId)) {
+            LocalDate month = LocalDate.of(row.getYear(), row.getMonth(), 1);
+            rows.put(key(row.getWalletId(), row.getCategoryId(), month, row.getType()), row);
+        }
+        return rows;
+    }
+
+    private static String key(Long walletId, Long categoryId, LocalDate month, TransactionType type) {
+        long category = categoryId == null ? MonthlyRollup.NO_CATEGORY : categoryId;
+        return walletId + "|" + category + "|" + month + "|" + type;
+    }
+}
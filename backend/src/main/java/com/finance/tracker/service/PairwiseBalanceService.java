@@ -0,0 +1,49 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.Money;
+import com.finance.tracker.model.PairwiseBalance;
+import com.finance.tracker.repository.PairwiseBalanceRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+@Service
+@Timed("tracker.service")
+@RequiredArgsConstructor
+public class PairwiseBalanceService {
+
+    private final PairwiseBalanceRepository pairwiseBalanceRepository;
+
+    /**
+     * Record that debtor owes creditor (more) cents in the group; negative cents reduce the debt.
+     * Must run inside the caller's transaction so the balance commits or rolls back with the
+     * split or settlement that caused it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addDebt(Long groupId, Long debtorId, Long creditorId, long cents) {
+        if (cents == 0 || debtorId.equals(creditorId)) {
+            return;
+        }
+        // Stored once per pair, lower id first
+        if (debtorId < creditorId) {
+            pairwiseBalanceRepository.addToPair(groupId, debtorId, creditorId, Money.fromCents(cents));
+        } else {
+            pairwiseBalanceRepository.addToPair(groupId, creditorId, debtorId, Money.fromCents(-cents));
+        }
+    }
+
+    // How much userId owes otherUserId in the group (negative = the other user owes userId)
+    @Transactional(readOnly = true)
+    public BigDecimal getOwed(Long groupId, Long userId, Long otherUserId) {
+        boolean ordered = userId < otherUserId;
+        BigDecimal balance = pairwiseBalanceRepository
+                .findByGroupIdAndUserAAndUserB(groupId, ordered ? userId : otherUserId, ordered ? otherUserId : userId)
+                .map(PairwiseBalance::getBalance)
+                .orElse(Money.ZERO);
+        return ordered ? balance : balance.negate();
+    }
+}
@@ -0,0 +1,53 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.RecurringTransaction;
+import com.finance.tracker.model.enums.RecurrenceFrequency;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Due dates of a recurring transaction.
+ * Fixed periods count every occurrence from the start date (start + n * interval), so a rule
+ * starting on Jan 31 falls on Feb 28 and then Mar 31 again instead of drifting to the 28th.
+ * CRON rules fall on the days the expression matches (time of day is ignored).
+ */
+final class Recurrence {
+
+    private Recurrence() {
+    }
+
+    // First due date on or after the start date (null if a cron expression never matches)
+    static LocalDate first(RecurringTransaction rule) {
+        if (rule.getFrequency() == RecurrenceFrequency.CRON) {
+            return cronNext(rule.getCron(), rule.getStartDate().minusDays(1));
+        }
+        return rule.getStartDate();
+    }
+
+    // Due date of the occurrence after 'current', which is occurrence number occurrenceCount (0-based)
+    static LocalDate next(RecurringTransaction rule, LocalDate current, long occurrenceCount) {
+        long n = (occurrenceCount + 1) * rule.getIntervalCount();
+        LocalDate start = rule.getStartDate();
+        return switch (rule.getFrequency()) {
+            case DAILY -> start.plusDays(n);
+            case WEEKLY -> start.plusWeeks(n);
+            case MONTHLY -> start.plusMonths(n);
+            case YEARLY -> start.plusYears(n);
+            case CRON -> cronNext(rule.getCron(), current);
+        };
+    }
+
+    // Throws IllegalArgumentException for an invalid expression
+    static void validateCron(String cron) {
+        CronExpression.parse(cron);
+    }
+
+    // First matching day after 'day'
+    private static LocalDate cronNext(String cron, LocalDate day) {
+        LocalDateTime next = CronExpression.parse(cron).next(day.atTime(LocalTime.MAX));
+        return next == null ? null : next.toLocalDate();
+    }
+}
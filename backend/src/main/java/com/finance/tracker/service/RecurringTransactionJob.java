@@ -0,0 +1,69 @@
+package com.finance.tracker.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Books due recurring transactions every few minutes.
+ * Only the node holding the "recurring-transactions" lease runs; it works through the due
+ * rules in batches (one DB transaction each) and extends the lease between batches.
+ * Restarts are safe: a rule's due date moves on in the same transaction that books it, and
+ * the unique (recurring_id, occurrence_date) key rejects an occurrence booked twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecurringTransactionJob {
+
+    static final String LEASE = "recurring-transactions";
+
+    private final RecurringTransactionService recurringService;
+    private final SchedulerLeaseService leaseService;
+
+    @Value("${recurring.batch-size:500}")
+    private int batchSize;
+
+    @Value("${recurring.lease-ttl:4m}")
+    private Duration leaseTtl;
+
+    @Scheduled(cron = "${recurring.cron:0 */5 * * * *}")
+    public void tick() {
+        run(LocalDate.now());
+    }
+
+    // Returns the number of occurrences booked (0 if another node holds the lease)
+    public long run(LocalDate today) {
+        if (!leaseService.tryAcquire(LEASE, leaseTtl)) {
+            return 0;
+        }
+        long booked = 0;
+        try {
+            RecurringTransactionService.MaterializedBatch batch =
+                    recurringService.materializeDue(today, null, null, batchSize);
+            booked += batch.occurrences();
+            while (batch.rules() == batchSize) {
+                if (!leaseService.tryAcquire(LEASE, leaseTtl)) {
+                    log.warn("Lost the {} lease, stopping after {} occurrence(s)", LEASE, booked);
+                    return booked;
+                }
+                batch = recurringService.materializeDue(today, batch.lastDueDate(), batch.lastId(), batchSize);
+                booked += batch.occurrences();
+            }
+        } catch (RuntimeException e) {
+            // The failed batch rolled back; its rules are still due and the next run retries them
+            log.error("Recurring transaction run failed after {} occurrence(s)", booked, e);
+        } finally {
+            leaseService.release(LEASE);
+        }
+        if (booked > 0) {
+            log.info("Booked {} recurring transaction occurrence(s) due by {}", booked, today);
+        }
+        return booked;
+    }
+}
@@ -0,0 +1,261 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.config.TrackerMetrics;
+import com.finance.tracker.dto.RecurringTransactionRequest;
+import com.finance.tracker.dto.RecurringTransactionResponse;
+import com.finance.tracker.model.Money;
+import com.finance.tracker.model.RecurringTransaction;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.RecurrenceFrequency;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.repository.RecurringTransactionRepository;
+import com.finance.tracker.repository.WalletRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Recurring transaction templates and their materialization into transactions.
+ * materializeDue handles one batch of due rules in one DB transaction: the occurrence rows go in
+ * as a JDBC batch, each wallet gets one balance update and each rollup bucket one upsert,
+ * however many occurrences fell due. The unique (recurring_id, occurrence_date) key makes a
+ * repeated occurrence fail the batch instead of being booked twice.
+ */
+@Slf4j
+@Service
+@Timed("tracker.service")
+@RequiredArgsConstructor
+public class RecurringTransactionService {
+
+    private static final String INSERT_SQL = "INSERT INTO transactions "
+            + "(amount, description, date, type, user_id, wallet_id, category_id, recurring_id, occurrence_date) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final RecurringTransactionRepository recurringRepository;
+    private final WalletRepository walletRepository;
+    private final WalletCache walletCache;
+    private final CategoryCache categoryCache;
+    private final MonthlyRollupService monthlyRollupService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TrackerMetrics trackerMetrics;
+
+    @Value("${recurring.max-catch-up:31}")
+    private int maxCatchUp; // occurrences per rule per batch, bounds the work after a long downtime
+
+    @Transactional
+    public RecurringTransactionResponse create(RecurringTransactionRequest request, User user) {
+        // 1. Wallet and category must be the user's (or a global category)
+        walletCache.find(user.getId(), request.getWalletId())
+                .orElseThrow(() -> new RuntimeException("Wallet not found"));
+        if (request.getCategoryId() != null && categoryCache.find(user.getId(), request.getCategoryId()).isEmpty()) {
+            throw new RuntimeException("Category not found");
+        }
+
+        // 2. Amount and description, same rules as createTransaction
+        if (request.getAmount() == null || request.getAmount().signum() <= 0) {
+            throw new RuntimeException("Amount must be positive");
+        }
+        if (request.getDescription() == null || request.getDescription().isBlank()) {
+            throw new RuntimeException("Description is required");
+        }
+        if (request.getType() == null) {
+            throw new RuntimeException("Type is required");
+        }
+
+        // 3. Schedule
+        if (request.getFrequency() == null) {
+            throw new RuntimeException("Frequency is required");
+        }
+        int interval = request.getInterval() == null ? 1 : request.getInterval();
+        if (interval < 1) {
+            throw new RuntimeException("Interval must be at least 1");
+        }
+        if (request.getFrequency() == RecurrenceFrequency.CRON) {
+            if (request.getCron() == null || request.getCron().isBlank()) {
+                throw new RuntimeException("A cron expression is required for CRON rules");
+            }
+            try {
+                Recurrence.validateCron(request.getCron());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid cron expression: " + e.getMessage());
+            }
+        }
+        LocalDate start = request.getStartDate() == null ? LocalDate.now() : request.getStartDate();
+        if (request.getEndDate() != null && request.getEndDate().isBefore(start)) {
+            throw new RuntimeException("End date must not be before the start date");
+        }
+
+        RecurringTransaction rule = RecurringTransaction.builder()
+                .userId(user.getId())
+                .walletId(request.getWalletId())
+                .categoryId(request.getCategoryId())
+                .amount(Money.of(request.getAmount()))
+                .description(request.getDescription())
+                .type(request.getType())
+                .frequency(request.getFrequency())
+                .intervalCount(interval)
+                .cron(request.getFrequency() == RecurrenceFrequency.CRON ? request.getCron() : null)
+                .startDate(start)
+                .endDate(request.getEndDate())
+                .build();
+        rule.setNextDueDate(withinEnd(rule, Recurrence.first(rule)));
+
+        // Due occurrences (start date today or earlier) are booked by the next job run
+        return RecurringTransactionResponse.from(recurringRepository.save(rule));
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecurringTransactionResponse> getMine(User user) {
+        return recurringRepository.findAllByUserIdOrderByIdAsc(user.getId()).stream()
+                .map(RecurringTransactionResponse::from)
+                .toList();
+    }
+
+    // Stops future occurrences; transactions already booked stay
+    @Transactional
+    public void delete(Long id, User user) {
+        RecurringTransaction rule = recurringRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Recurring transaction not found"));
+        if (!rule.getUserId().equals(user.getId())) {
+            throw new RuntimeException("Access denied: You can only delete your own recurring transactions");
+        }
+        recurringRepository.delete(rule);
+    }
+
+    /**
+     * Book every occurrence due on or before 'today' for up to 'limit' due rules, starting after
+     * the (dueDate, id) position of the previous batch (null = from the start).
+     * An expense that would overdraw its wallet is left due and retried on the next run, as are
+     * all occurrences of a wallet whose balance dropped between the read and the update.
+     */
+    @Transactional
+    public MaterializedBatch materializeDue(LocalDate today, LocalDate afterDueDate, Long afterId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<RecurringTransaction> rules = (afterId == null)
+                ? recurringRepository.findDue(today, page)
+                : recurringRepository.findDueAfter(today, afterDueDate, afterId, page);
+        if (rules.isEmpty()) {
+            return new MaterializedBatch(0, 0, null, null);
+        }
+        // Keyset position of this batch, taken before the due dates move on
+        RecurringTransaction last = rules.get(rules.size() - 1);
+        LocalDate lastDueDate = last.getNextDueDate();
+        Long lastId = last.getId();
+
+        // 1. Current balances of the wallets involved, in one query (cents, updated as we go)
+        Set<Long> walletIds = new HashSet<>();
+        rules.forEach(rule -> walletIds.add(rule.getWalletId()));
+        Map<Long, long[]> balances = new HashMap<>();
+        for (Wallet wallet : walletRepository.findAllById(walletIds)) {
+            balances.put(wallet.getId(), new long[] {Money.toCents(wallet.getBalance())});
+        }
+
+        // 2. Plan each rule's occurrences against the running balances, grouped by wallet
+        Map<Long, WalletPlan> plans = new LinkedHashMap<>();
+        for (RecurringTransaction rule : rules) {
+            long[] balance = balances.get(rule.getWalletId());
+            long amount = Money.toCents(rule.getAmount());
+            long delta = TransactionService.balanceDelta(rule.getType(), amount);
+            WalletPlan plan = plans.computeIfAbsent(rule.getWalletId(), id -> new WalletPlan());
+            LocalDate due = rule.getNextDueDate();
+            long count = rule.getOccurrenceCount();
+            int booked = 0;
+            while (due != null && !due.isAfter(today) && booked < maxCatchUp) {
+                if (balance == null || balance[0] + delta < 0) {
+                    log.info("Recurring transaction {} not booked for {}: insufficient balance in wallet {}",
+                            rule.getId(), due, rule.getWalletId());
+                    break;
+                }
+                balance[0] += delta;
+                plan.delta += delta;
+                long[] bucket = plan.rollups.computeIfAbsent(new RollupKey(rule.getUserId(), rule.getWalletId(),
+                        rule.getCategoryId(), due.withDayOfMonth(1), rule.getType()), key -> new long[2]);
+                bucket[0] += amount;
+                bucket[1]++;
+                plan.rows.add(new Object[] {
+                        rule.getAmount(), rule.getDescription(), due, rule.getType().name(),
+                        rule.getUserId(), rule.getWalletId(), rule.getCategoryId(), rule.getId(), due
+                });
+                due = withinEnd(rule, Recurrence.next(rule, due, count));
+                count++;
+                booked++;
+            }
+            if (booked > 0) {
+                plan.advances.add(new Advance(rule, due, count));
+            }
+        }
+
+        // 3. Guarded balance update per wallet first. A wallet spent from since we read it is
+        //    skipped: its rules stay due for the next run, the other wallets go ahead
+        List<Object[]> rows = new ArrayList<>();
+        Set<Long> userIds = new HashSet<>();
+        for (Map.Entry<Long, WalletPlan> entry : plans.entrySet()) {
+            WalletPlan plan = entry.getValue();
+            if (plan.rows.isEmpty()) {
+                continue;
+            }
+            if (plan.delta != 0 && walletRepository.applyDelta(entry.getKey(), Money.fromCents(plan.delta)) == 0) {
+                log.info("Wallet {} changed during the run, {} recurring occurrence(s) retried on the next run",
+                        entry.getKey(), plan.rows.size());
+                continue;
+            }
+            rows.addAll(plan.rows);
+            plan.rollups.forEach((key, bucket) -> monthlyRollupService.add(key.userId(), key.walletId(),
+                    key.categoryId(), key.month(), key.type(), Money.fromCents(bucket[0]), bucket[1]));
+            // Move the rules on (flushed with the batch at commit)
+            for (Advance advance : plan.advances) {
+                advance.rule().setNextDueDate(advance.nextDueDate());
+                advance.rule().setOccurrenceCount(advance.occurrenceCount());
+                userIds.add(advance.rule().getUserId());
+            }
+        }
+
+        // 4. One JDBC batch of inserts for every wallet that went ahead
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+        userIds.forEach(walletCache::invalidateUser);
+        trackerMetrics.recurringOccurrencesBooked(rows.size());
+
+        return new MaterializedBatch(rules.size(), rows.size(), lastDueDate, lastId);
+    }
+
+    // null (rule ended) past the end date
+    private static LocalDate withinEnd(RecurringTransaction rule, LocalDate date) {
+        return date == null || (rule.getEndDate() != null && date.isAfter(rule.getEndDate())) ? null : date;
+    }
+
+    // Outcome of one batch: rules read, occurrences booked, and the keyset position to continue from
+    public record MaterializedBatch(int rules, int occurrences, LocalDate lastDueDate, Long lastId) {
+    }
+
+    private record RollupKey(Long userId, Long walletId, Long categoryId, LocalDate month, TransactionType type) {
+    }
+
+    // Where a rule stands once its planned occurrences are booked
+    private record Advance(RecurringTransaction rule, LocalDate nextDueDate, long occurrenceCount) {
+    }
+
+    // Everything one wallet's rules would write in this batch; applied only if its balance update succeeds
+    private static class WalletPlan {
+        private final List<Object[]> rows = new ArrayList<>();
+        private final Map<RollupKey, long[]> rollups = new HashMap<>(); // {total cents, count}
+        private final List<Advance> advances = new ArrayList<>();
+        private long delta; // cents
+    }
+}
@@ -0,0 +1,77 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.RollupVerification;
+import com.finance.tracker.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Nightly drift check of monthly_rollups against raw transactions.
+ * Drift is logged; with rollups.repair-on-drift=true the affected user is rebuilt as well,
+ * otherwise the user's rollups are marked incomplete so the dashboard stops reading them.
+ * Users whose rollups verify clean are marked complete (see RollupStatus).
+ * Runs on one instance only, the one holding the "rollup-verification" lease.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RollupVerificationJob {
+
+    static final String LEASE = "rollup-verification";
+
+    private final MonthlyRollupService rollupService;
+    private final UserRepository userRepository;
+    private final SchedulerLeaseService leaseService;
+
+    @Value("${rollups.lease-ttl:10m}")
+    private Duration leaseTtl;
+
+    @Value("${rollups.repair-on-drift:false}")
+    private boolean repairOnDrift;
+
+    @Scheduled(cron = "${rollups.verify-cron:0 30 3 * * *}")
+    public void verifyAll() {
+        if (!leaseService.tryAcquire(LEASE, leaseTtl)) {
+            return;
+        }
+        try {
+            verifyUsers();
+        } finally {
+            leaseService.release(LEASE);
+        }
+    }
+
+    private void verifyUsers() {
+        int drifted = 0;
+        long renewAt = System.nanoTime() + leaseTtl.toNanos() / 2;
+        for (Long userId : userRepository.findAllIds()) {
+            // Extend the lease once half of it is used up; stop if another instance took it over
+            if (System.nanoTime() - renewAt > 0) {
+                if (!leaseService.tryAcquire(LEASE, leaseTtl)) {
+                    log.warn("Lost the {} lease, stopping the verification at user {}", LEASE, userId);
+                    return;
+                }
+                renewAt = System.nanoTime() + leaseTtl.toNanos() / 2;
+            }
+            RollupVerification result = rollupService.verify(userId);
+            if (result.getDrifts().isEmpty()) {
+                rollupService.markComplete(userId);
+                continue;
+            }
+            drifted++;
+            log.warn("Monthly rollups drifted for user {}: {} bucket(s) differ, e.g. {}",
+                    userId, result.getDrifts().size(), result.getDrifts().get(0));
+            if (repairOnDrift) {
+                rollupService.rebuild(userId);
+            } else {
+                rollupService.markIncomplete(userId);
+            }
+        }
+        log.info("Monthly rollup verification finished, {} user(s) with drift", drifted);
+    }
+}
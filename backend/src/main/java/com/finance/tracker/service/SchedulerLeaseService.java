@@ -0,0 +1,46 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.repository.SchedulerLeaseRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Database leases that keep a background job on one node at a time.
+ * A node holds a lease until it expires; it extends it while working and gives it back when
+ * done. A node that dies just lets it expire. Each call is its own short transaction.
+ */
+@Service
+@Timed("tracker.service")
+@RequiredArgsConstructor
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository leaseRepository;
+    // This process: pid@host plus a random part, unique even across restarts
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+    // Take (or extend) the lease for 'ttl'; false if another node holds it
+    public boolean tryAcquire(String name, Duration ttl) {
+        Instant now = Instant.now();
+        Instant until = now.plus(ttl);
+        if (leaseRepository.takeOrExtend(name, owner, now, until) == 1) {
+            return true;
+        }
+        try {
+            return leaseRepository.create(name, owner, until) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // The row exists and is held by someone else
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        leaseRepository.release(name, owner, Instant.now());
+    }
+}
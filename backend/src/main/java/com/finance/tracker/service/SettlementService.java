@@ -0,0 +1,261 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.config.ReadThroughCache;
+import com.finance.tracker.dto.DebtEdge;
+import com.finance.tracker.dto.GroupSettlement;
+import com.finance.tracker.dto.MemberBalance;
+import com.finance.tracker.dto.PairBalance;
+import com.finance.tracker.dto.SettlementRequest;
+import com.finance.tracker.dto.SettlementResponse;
+import com.finance.tracker.dto.SettlementTransfer;
+import com.finance.tracker.dto.UserDTO;
+import com.finance.tracker.model.Money;
+import com.finance.tracker.model.Settlement;
+import com.finance.tracker.model.User;
+import com.finance.tracker.repository.GroupRepository;
+import com.finance.tracker.repository.PairwiseBalanceRepository;
+import com.finance.tracker.repository.SettlementRepository;
+import com.finance.tracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * "Who owes whom" inside a group and across all of a user's groups, and recorded payments.
+ * Open debts are read from pairwise_balances (one row per pair), netted per user in a
+ * DebtLedger and reduced to the fewest settle-up transfers. Results are cached per group
+ * until the next split or settlement change in that group (see invalidate); that eviction
+ * is local, so settlements.cache.ttl bounds how long another instance serves an old plan.
+ */
+@Service
+@Timed("tracker.service")
+public class SettlementService {
+
+    private final PairwiseBalanceRepository pairwiseBalanceRepository;
+    private final SettlementRepository settlementRepository;
+    private final PairwiseBalanceService pairwiseBalanceService;
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+    private final GroupService groupService;
+    private final ReadThroughCache<Long, GroupSettlement> cache;
+
+    public SettlementService(
+            PairwiseBalanceRepository pairwiseBalanceRepository,
+            SettlementRepository settlementRepository,
+            PairwiseBalanceService pairwiseBalanceService,
+            GroupRepository groupRepository,
+            UserRepository userRepository,
+            GroupService groupService,
+            @Value("${settlements.cache.max-size:1000}") long maxSize,
+            @Value("${settlements.cache.ttl:1m}") Duration ttl
+    ) {
+        this.pairwiseBalanceRepository = pairwiseBalanceRepository;
+        this.settlementRepository = settlementRepository;
+        this.pairwiseBalanceService = pairwiseBalanceService;
+        this.groupRepository = groupRepository;
+        this.userRepository = userRepository;
+        this.groupService = groupService;
+        this.cache = new ReadThroughCache<>(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl));
+    }
+
+    // 1. Balances and settle-up plan of one group (members only)
+    @Transactional(readOnly = true)
+    public GroupSettlement getGroupSettlement(Long groupId, User user) {
+        groupService.checkAccess(groupId, user);
+        return settlementOf(groupId);
+    }
+
+    // Cached result without the access check, for callers in this package that already did it.
+    // A miss is computed on the calling thread (see ReadThroughCache)
+    GroupSettlement settlementOf(Long groupId) {
+        return cache.get(groupId, this::computeGroup);
+    }
+
+    // 2. The user's settle-up plan over all their groups, debts netted across groups first
+    @Transactional(readOnly = true)
+    public List<SettlementTransfer> getMySettlements(User user) {
+        // Every group's balance rows as they are; DebtLedger.ofBalances sums a user's rows
+        // into one net in its sorted long[], so nothing here is keyed by a boxed id.
+        // Missing groups are computed here, on this transaction's connection
+        List<MemberBalance> rows = new ArrayList<>();
+        for (Long groupId : groupRepository.findGroupIdsByMemberId(user.getId())) {
+            rows.addAll(settlementOf(groupId).getBalances());
+        }
+        long[] userIds = new long[rows.size()];
+        long[] nets = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            userIds[i] = rows.get(i).getUser().getId();
+            nets[i] = Money.toCents(rows.get(i).getNet());
+        }
+        DebtLedger ledger = DebtLedger.ofBalances(userIds, nets);
+
+        // Names by ledger index
+        UserDTO[] users = new UserDTO[ledger.size()];
+        for (MemberBalance row : rows) {
+            users[ledger.indexOf(row.getUser().getId())] = row.getUser();
+        }
+
+        // Only the payments this user makes or receives
+        long me = user.getId();
+        List<SettlementTransfer> mine = new ArrayList<>();
+        for (DebtLedger.Transfer transfer : ledger.settle()) {
+            if (transfer.fromUserId() == me || transfer.toUserId() == me) {
+                mine.add(toDTO(transfer, id -> users[ledger.indexOf(id)]));
+            }
+        }
+        return mine;
+    }
+
+    // 3. Record that the user paid another member; pays off that much of the debt between them
+    @Transactional
+    public SettlementResponse recordPayment(Long groupId, SettlementRequest request, User user) {
+        groupService.checkAccess(groupId, user);
+
+        if (request.getToUserId() == null || request.getToUserId().equals(user.getId())) {
+            throw new RuntimeException("Choose another member to pay");
+        }
+        if (!groupRepository.isMember(groupId, request.getToUserId())) {
+            throw new RuntimeException("Access denied: The receiver is not a member of this group");
+        }
+        if (request.getAmount() == null || request.getAmount().signum() <= 0) {
+            throw new RuntimeException("Amount must be positive");
+        }
+        BigDecimal amount = Money.of(request.getAmount());
+
+        Settlement settlement = settlementRepository.save(Settlement.builder()
+                .group(groupRepository.getReferenceById(groupId))
+                .fromUser(user)
+                .toUser(userRepository.getReferenceById(request.getToUserId()))
+                .amount(amount)
+                .date(request.getDate() == null ? LocalDate.now() : request.getDate())
+                .note(request.getNote())
+                .build());
+
+        // Paying X to someone counts as them owing you X
+        pairwiseBalanceService.addDebt(groupId, request.getToUserId(), user.getId(), Money.toCents(amount));
+        invalidate(groupId);
+
+        Map<Long, UserDTO> users = new HashMap<>();
+        userRepository.findDTOsByIdIn(List.of(user.getId(), request.getToUserId()))
+                .forEach(dto -> users.put(dto.getId(), dto));
+        return SettlementResponse.builder()
+                .id(settlement.getId())
+                .groupId(groupId)
+                .from(users.get(user.getId()))
+                .to(users.get(request.getToUserId()))
+                .amount(amount)
+                .date(settlement.getDate())
+                .note(settlement.getNote())
+                .build();
+    }
+
+    // 4. How much the user owes another member of the group: one row of pairwise_balances
+    @Transactional(readOnly = true)
+    public PairBalance getPairBalance(Long groupId, Long otherUserId, User user) {
+        groupService.checkAccess(groupId, user);
+        if (otherUserId == null || !groupRepository.isMember(groupId, otherUserId)) {
+            throw new RuntimeException("Access denied: The other user is not a member of this group");
+        }
+        return PairBalance.builder()
+                .groupId(groupId)
+                .userId(user.getId())
+                .otherUserId(otherUserId)
+                .owes(pairwiseBalanceService.getOwed(groupId, user.getId(), otherUserId))
+                .build();
+    }
+
+    /**
+     * Drop the cached result of a group whose splits changed.
+     * Evicts right away and again after the surrounding transaction completes,
+     * so a read that cached the old splits in between does not keep them.
+     */
+    public void invalidate(Long groupId) {
+        cache.invalidate(groupId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(groupId);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private GroupSettlement computeGroup(Long groupId) {
+        // One row per pair that still has an open debt
+        List<DebtEdge> edges = pairwiseBalanceRepository.findOpenDebtsByGroupId(groupId);
+        long[] debtors = new long[edges.size()];
+        long[] creditors = new long[edges.size()];
+        long[] cents = new long[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            DebtEdge edge = edges.get(i);
+            debtors[i] = edge.getDebtorId();
+            creditors[i] = edge.getCreditorId();
+            cents[i] = Money.toCents(edge.getAmount());
+        }
+        DebtLedger ledger = DebtLedger.ofDebts(debtors, creditors, cents);
+
+        // Names for everyone involved, in one query, stored by ledger index
+        List<Long> ids = new ArrayList<>(ledger.size());
+        for (int i = 0; i < ledger.size(); i++) {
+            ids.add(ledger.userId(i));
+        }
+        UserDTO[] users = new UserDTO[ledger.size()];
+        if (!ids.isEmpty()) {
+            userRepository.findDTOsByIdIn(ids).forEach(dto -> users[ledger.indexOf(dto.getId())] = dto);
+        }
+
+        List<MemberBalance> balances = new ArrayList<>(ledger.size());
+        for (int i = 0; i < ledger.size(); i++) {
+            if (ledger.net(i) != 0) {
+                balances.add(MemberBalance.builder()
+                        .user(users[i])
+                        .net(Money.fromCents(ledger.net(i)))
+                        .build());
+            }
+        }
+
+        List<DebtLedger.Transfer> plan = ledger.settle();
+        List<SettlementTransfer> transfers = new ArrayList<>(plan.size());
+        plan.forEach(transfer -> transfers.add(toDTO(transfer, id -> users[ledger.indexOf(id)])));
+
+        return GroupSettlement.builder()
+                .groupId(groupId)
+                .balances(balances)
+                .transfers(transfers)
+                .build();
+    }
+
+    private static SettlementTransfer toDTO(DebtLedger.Transfer transfer, LongFunction<UserDTO> users) {
+        return SettlementTransfer.builder()
+                .from(users.apply(transfer.fromUserId()))
+                .to(users.apply(transfer.toUserId()))
+                .amount(Money.fromCents(transfer.cents()))
+                .build();
+    }
+}
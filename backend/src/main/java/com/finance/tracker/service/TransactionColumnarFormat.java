@@ -0,0 +1,226 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.RefDTO;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.Money;
+import com.finance.tracker.model.enums.TransactionType;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Compact binary export: rows in blocks (one export chunk each), every block stored column by
+ * column so each column is a run of small, similar numbers. Written block by block, so the
+ * writer never holds more than one chunk.
+ *
+ * <pre>
+ * file  := "TXC1" block* 0x00
+ * block := rowCount (varint, &gt; 0) then each column, rowCount values per column:
+ *   id           zigzag varint, difference to the previous row's id (first row: to 0)
+ *   date         zigzag varint, difference in epoch days to the previous row (first row: to 0)
+ *   amount       zigzag varint, cents
+ *   type         1 byte, TransactionType ordinal (INCOME, EXPENSE, TRANSFER)
+ *   wallet       ref
+ *   category     ref
+ *   group        ref
+ *   description  string
+ * ref    := varint k: 0 = none, k &lt;= n = the k-th new ref of this block and column,
+ *           n + 1 = a new ref follows: varint id, string name
+ * string := varint byte length, UTF-8 bytes
+ * varint := unsigned LEB128
+ * </pre>
+ */
+public final class TransactionColumnarFormat {
+
+    public static final String MEDIA_TYPE = "application/vnd.tracker.transactions";
+    private static final byte[] MAGIC = {'T', 'X', 'C', '1'};
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private TransactionColumnarFormat() {
+    }
+
+    public static void writeHeader(OutputStream out) throws IOException {
+        out.write(MAGIC);
+    }
+
+    public static void writeBlock(List<TransactionResponse> rows, OutputStream out) throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        writeVarint(out, rows.size());
+
+        long previous = 0;
+        for (TransactionResponse row : rows) {
+            writeVarint(out, zigzag(row.getId() - previous));
+            previous = row.getId();
+        }
+        previous = 0;
+        for (TransactionResponse row : rows) {
+            long day = row.getDate().toEpochDay();
+            writeVarint(out, zigzag(day - previous));
+            previous = day;
+        }
+        for (TransactionResponse row : rows) {
+            writeVarint(out, zigzag(Money.toCents(row.getAmount())));
+        }
+        for (TransactionResponse row : rows) {
+            out.write(row.getType().ordinal());
+        }
+        writeRefs(rows, TransactionResponse::getWallet, out);
+        writeRefs(rows, TransactionResponse::getCategory, out);
+        writeRefs(rows, TransactionResponse::getGroup, out);
+        for (TransactionResponse row : rows) {
+            writeString(out, row.getDescription());
+        }
+    }
+
+    public static void writeEnd(OutputStream out) throws IOException {
+        writeVarint(out, 0);
+    }
+
+    /**
+     * Decode a whole file into memory (for clients and tests; the server only writes).
+     * The user is not stored: every row belongs to the user who exported it.
+     */
+    public static List<TransactionResponse> read(InputStream in) throws IOException {
+        if (!Arrays.equals(in.readNBytes(MAGIC.length), MAGIC)) {
+            throw new IOException("Not a transaction export");
+        }
+
+        List<TransactionResponse> rows = new ArrayList<>();
+        int count;
+        while ((count = Math.toIntExact(readVarint(in))) > 0) {
+            List<TransactionResponse> block = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                block.add(new TransactionResponse());
+            }
+
+            long previous = 0;
+            for (TransactionResponse row : block) {
+                previous += unzigzag(readVarint(in));
+                row.setId(previous);
+            }
+            previous = 0;
+            for (TransactionResponse row : block) {
+                previous += unzigzag(readVarint(in));
+                row.setDate(LocalDate.ofEpochDay(previous));
+            }
+            for (TransactionResponse row : block) {
+                row.setAmount(Money.fromCents(unzigzag(readVarint(in))));
+            }
+            for (TransactionResponse row : block) {
+                row.setType(TYPES[readByte(in)]);
+            }
+            readRefs(in, block, TransactionResponse::setWallet);
+            readRefs(in, block, TransactionResponse::setCategory);
+            readRefs(in, block, TransactionResponse::setGroup);
+            for (TransactionResponse row : block) {
+                row.setDescription(readString(in));
+            }
+            rows.addAll(block);
+        }
+        return rows;
+    }
+
+    // Repeated wallets / categories / groups cost one small number each
+    private static void writeRefs(List<TransactionResponse> rows, Function<TransactionResponse, RefDTO> column,
+                                  OutputStream out) throws IOException {
+        Map<Long, Integer> seen = new HashMap<>();
+        for (TransactionResponse row : rows) {
+            RefDTO ref = column.apply(row);
+            if (ref == null) {
+                writeVarint(out, 0);
+                continue;
+            }
+            Integer index = seen.get(ref.getId());
+            if (index != null) {
+                writeVarint(out, index);
+            } else {
+                seen.put(ref.getId(), seen.size() + 1);
+                writeVarint(out, seen.size());
+                writeVarint(out, ref.getId());
+                writeString(out, ref.getName());
+            }
+        }
+    }
+
+    private static void readRefs(InputStream in, List<TransactionResponse> rows,
+                                 BiConsumer<TransactionResponse, RefDTO> column) throws IOException {
+        List<RefDTO> seen = new ArrayList<>();
+        for (TransactionResponse row : rows) {
+            int index = Math.toIntExact(readVarint(in));
+            if (index == 0) {
+                column.accept(row, null);
+            } else if (index <= seen.size()) {
+                column.accept(row, seen.get(index - 1));
+            } else {
+                RefDTO ref = new RefDTO(readVarint(in), readString(in));
+                seen.add(ref);
+                column.accept(row, ref);
+            }
+        }
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(InputStream in) throws IOException {
+        int length = Math.toIntExact(readVarint(in));
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte(in);
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    // Small negative numbers become small unsigned ones (-1 -> 1, 1 -> 2)
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
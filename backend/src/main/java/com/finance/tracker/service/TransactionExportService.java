@@ -0,0 +1,118 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.RefDTO;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.User;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Full-history exports written straight to the response stream.
+ * Rows come from TransactionService.streamTransactionChunks: keyset chunks of DTOs, each
+ * its own short read. The heap holds one chunk however long the history is, and no
+ * connection is held while a slow client downloads.
+ */
+@Service
+@Timed("tracker.service")
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    // Same column names as the CSV import reads. Not a backup: importing a file adds its rows
+    // (and their amounts) to the wallets again, and the import rejects group rows.
+    private static final String CSV_HEADER =
+            "id,date,description,amount,type,walletId,wallet,categoryId,category,groupId,group\n";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TransactionService transactionService;
+
+    // RFC 4180 CSV, UTF-8
+    public void writeCsv(User user, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+        stream(user, chunk -> {
+            for (TransactionResponse tx : chunk) {
+                writer.write(Long.toString(tx.getId()));
+                writer.write(',');
+                writer.write(tx.getDate().toString());
+                writer.write(',');
+                writer.write(csvField(tx.getDescription()));
+                writer.write(',');
+                writer.write(tx.getAmount().toPlainString());
+                writer.write(',');
+                writer.write(tx.getType().name());
+                writeRef(writer, tx.getWallet());
+                writeRef(writer, tx.getCategory());
+                writeRef(writer, tx.getGroup());
+                writer.write('\n');
+            }
+            writer.flush(); // hand each chunk to the client as soon as it is read
+        });
+        writer.flush();
+    }
+
+    // TransactionColumnarFormat, one block per chunk
+    public void writeColumnar(User user, OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        TransactionColumnarFormat.writeHeader(buffered);
+        stream(user, chunk -> {
+            TransactionColumnarFormat.writeBlock(chunk, buffered);
+            buffered.flush();
+        });
+        TransactionColumnarFormat.writeEnd(buffered);
+        buffered.flush();
+    }
+
+    private void stream(User user, ChunkWriter writer) throws IOException {
+        try {
+            transactionService.streamTransactionChunks(user, chunk -> {
+                try {
+                    writer.write(chunk);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // The client went away: stop reading and let the container deal with it
+            throw e.getCause();
+        }
+    }
+
+    private static void writeRef(Writer writer, RefDTO ref) throws IOException {
+        writer.write(',');
+        if (ref != null) {
+            writer.write(Long.toString(ref.getId()));
+            writer.write(',');
+            writer.write(csvField(ref.getName()));
+        } else {
+            writer.write(',');
+        }
+    }
+
+    // Quote when needed; line breaks become spaces (the import reads one row per line)
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        String field = value.replace('\r', ' ').replace('\n', ' ');
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(List<TransactionResponse> chunk) throws IOException;
+    }
+}
@@ -0,0 +1,343 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.config.TrackerMetrics;
+import com.finance.tracker.dto.ImportError;
+import com.finance.tracker.dto.ImportResult;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.model.Money;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.repository.WalletRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk import of bank exports.
+ * Rows are parsed one at a time from the request stream, checked against wallets loaded
+ * once up front and the cached categories, and written with JDBC batch inserts. Wallet balances
+ * and monthly rollups get one update per wallet / bucket at the end instead of one per row.
+ */
+@Service
+@Timed("tracker.service")
+@RequiredArgsConstructor
+public class TransactionImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_SQL = "INSERT INTO transactions "
+            + "(amount, description, date, type, user_id, wallet_id, category_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final WalletRepository walletRepository;
+    private final CategoryCache categoryCache;
+    private final WalletCache walletCache;
+    private final MonthlyRollupService monthlyRollupService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TrackerMetrics trackerMetrics;
+
+    @Value("${import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * CSV with a header row. Recognised columns (any order, case-insensitive):
+     * date (yyyy-MM-dd), description, amount, type, walletId, categoryId.
+     */
+    @Transactional
+    public ImportResult importCsv(InputStream in, User user) throws IOException {
+        Importer importer = new Importer(user);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return importer.finish();
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = parseCsvLine(headerLine);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        String line;
+        long row = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            TransactionRequest request;
+            try {
+                request = toRequest(parseCsvLine(line), columns);
+            } catch (RuntimeException e) {
+                importer.reject(row, "Unreadable row: " + e.getMessage());
+                continue;
+            }
+            importer.accept(row, request);
+        }
+        return importer.finish();
+    }
+
+    // JSON array of TransactionRequest objects (or one object per line), read element by element
+    @Transactional
+    public ImportResult importJson(InputStream in, User user) throws IOException {
+        Importer importer = new Importer(user);
+        long row = 0;
+        try (MappingIterator<JsonNode> elements = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+            while (elements.hasNext()) {
+                JsonNode element = elements.next();
+                row++;
+                // Mapping errors (bad date, non-numeric amount, ...) only affect this element
+                TransactionRequest request;
+                try {
+                    request = objectMapper.treeToValue(element, TransactionRequest.class);
+                } catch (JacksonException e) {
+                    importer.reject(row, "Unreadable row: " + e.getOriginalMessage());
+                    continue;
+                }
+                importer.accept(row, request);
+            }
+        } catch (JacksonException e) {
+            // Syntax error in element row + 1: the stream position is lost, so stop here
+            importer.reject(row + 1, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        return importer.finish();
+    }
+
+    private static TransactionRequest toRequest(List<String> fields, Map<String, Integer> columns) {
+        TransactionRequest request = new TransactionRequest();
+        String date = field(fields, columns, "date");
+        String amount = field(fields, columns, "amount");
+        String type = field(fields, columns, "type");
+        String walletId = field(fields, columns, "walletid");
+        String categoryId = field(fields, columns, "categoryid");
+
+        request.setDate(date == null ? null : LocalDate.parse(date));
+        request.setDescription(field(fields, columns, "description"));
+        request.setAmount(amount == null ? null : new BigDecimal(amount));
+        request.setType(type == null ? null : TransactionType.valueOf(type.toUpperCase(Locale.ROOT)));
+        request.setWalletId(walletId == null ? null : Long.valueOf(walletId));
+        request.setCategoryId(categoryId == null ? null : Long.valueOf(categoryId));
+        return request;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Minimal RFC 4180 field splitter: commas, double quotes and "" escapes (no multi-line fields)
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    /**
+     * State of one import run: lookup caches, running wallet balances, the pending
+     * insert batch and the per-bucket rollup totals.
+     */
+    private class Importer {
+
+        private final User user;
+        private final Map<Long, Wallet> wallets = new HashMap<>();
+        private final Map<Long, long[]> walletDeltas = new HashMap<>(); // cents, one slot per wallet
+        private final Map<String, RollupBucket> rollups = new HashMap<>();
+        private final List<Object[]> batch = new ArrayList<>();
+        private final List<ImportError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        Importer(User user) {
+            this.user = user;
+            walletRepository.findAllByUser(user).forEach(wallet -> wallets.put(wallet.getId(), wallet));
+        }
+
+        void accept(long row, TransactionRequest request) {
+            String problem = validate(request);
+            if (problem != null) {
+                reject(row, problem);
+                return;
+            }
+
+            Wallet wallet = wallets.get(request.getWalletId());
+            long amount = Money.toCents(request.getAmount());
+            long[] walletDelta = walletDeltas.computeIfAbsent(wallet.getId(), id -> new long[1]);
+            long runningDelta;
+            try {
+                // Running delta and resulting balance must stay within long cents, like each amount
+                long available = Math.addExact(Money.toCents(wallet.getBalance()), walletDelta[0]);
+                long delta = 0;
+                if (request.getType() == TransactionType.EXPENSE) {
+                    // Same rule as createTransaction, applied to the running balance
+                    if (available < amount) {
+                        reject(row, "Insufficient balance in wallet!");
+                        return;
+                    }
+                    delta = -amount;
+                } else if (request.getType() == TransactionType.INCOME) {
+                    delta = amount;
+                }
+                Math.addExact(available, delta);
+                runningDelta = Math.addExact(walletDelta[0], delta);
+            } catch (ArithmeticException e) {
+                reject(row, "Wallet balance would exceed " + Money.MAX);
+                return;
+            }
+            walletDelta[0] = runningDelta;
+
+            String key = wallet.getId() + "|" + request.getCategoryId() + "|"
+                    + request.getDate().withDayOfMonth(1) + "|" + request.getType();
+            rollups.computeIfAbsent(key, k -> new RollupBucket(wallet.getId(), request.getCategoryId(),
+                    request.getDate(), request.getType())).add(amount);
+
+            batch.add(new Object[] {
+                    Money.fromCents(amount), request.getDescription(), request.getDate(), request.getType().name(),
+                    user.getId(), wallet.getId(), request.getCategoryId()
+            });
+            imported++;
+            if (batch.size() >= batchSize) {
+                flushBatch();
+            }
+        }
+
+        void reject(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportError(row, message));
+            }
+        }
+
+        ImportResult finish() {
+            flushBatch();
+
+            // One balance write per wallet, whatever the number of rows
+            walletDeltas.forEach((walletId, delta) -> {
+                if (delta[0] != 0 && walletRepository.applyDelta(walletId, Money.fromCents(delta[0])) == 0) {
+                    // Another request spent from the wallet while we were importing
+                    throw new RuntimeException("Insufficient balance in wallet! The balance changed during the import");
+                }
+            });
+            if (!walletDeltas.isEmpty()) {
+                walletCache.invalidateUser(user.getId());
+            }
+
+            // One upsert per rollup bucket
+            rollups.values().forEach(bucket -> monthlyRollupService.add(user.getId(), bucket.walletId,
+                    bucket.categoryId, bucket.month, bucket.type, Money.fromCents(bucket.total), bucket.count));
+            trackerMetrics.importRowsWritten((int) imported);
+
+            return ImportResult.builder()
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+
+        private String validate(TransactionRequest request) {
+            if (request.getAmount() == null || request.getAmount().signum() <= 0) {
+                return "Amount must be positive";
+            }
+            if (request.getAmount().stripTrailingZeros().scale() > Money.SCALE) {
+                return "Amounts can have at most " + Money.SCALE + " decimal places";
+            }
+            if (request.getAmount().compareTo(Money.MAX) > 0) {
+                return "Amount must not exceed " + Money.MAX;
+            }
+            if (request.getDate() == null) {
+                return "Date is required";
+            }
+            if (request.getType() == null) {
+                return "Type is required";
+            }
+            if (request.getDescription() == null || request.getDescription().isBlank()) {
+                return "Description is required";
+            }
+            if (request.getGroupId() != null || (request.getSplitUserIds() != null && !request.getSplitUserIds().isEmpty())) {
+                return "Group transactions cannot be imported";
+            }
+            if (request.getWalletId() == null || !wallets.containsKey(request.getWalletId())) {
+                return "Wallet not found";
+            }
+            if (request.getCategoryId() != null && categoryCache.find(user.getId(), request.getCategoryId()).isEmpty()) {
+                return "Category not found";
+            }
+            return null;
+        }
+
+        private void flushBatch() {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private static class RollupBucket {
+        private final Long walletId;
+        private final Long categoryId;
+        private final LocalDate month;
+        private final TransactionType type;
+        private long total; // cents
+        private long count;
+
+        RollupBucket(Long walletId, Long categoryId, LocalDate month, TransactionType type) {
+            this.walletId = walletId;
+            this.categoryId = categoryId;
+            this.month = month;
+            this.type = type;
+        }
+
+        void add(long amount) {
+            total += amount;
+            count++;
+        }
+    }
+}
@@ -1,25 +1,54 @@
 package com.finance.tracker.service;
 
+import com.finance.tracker.config.TrackerMetrics;
+import com.finance.tracker.dto.CategoryResponse;
+import com.finance.tracker.dto.RefDTO;
+import com.finance.tracker.dto.TransactionCursor;
+import com.finance.tracker.dto.TransactionPage;
 import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.dto.TransactionSearch;
+import com.finance.tracker.dto.WalletResponse;
 import com.finance.tracker.model.*;
+import com.finance.tracker.model.enums.SplitMode;
 import com.finance.tracker.model.enums.TransactionType;
 import com.finance.tracker.repository.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
+@Timed("tracker.service") // one timer per service method, tagged with class and method (see application.yml)
 @RequiredArgsConstructor
 public class TransactionService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+    static final int EXPORT_CHUNK_SIZE = 500;
+
     private final TransactionRepository transactionRepository;
     private final WalletRepository walletRepository;
+    private final WalletCache walletCache;
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
     private final GroupRepository groupRepository;
     private final ExpenseSplitRepository expenseSplitRepository;
     private final UserRepository userRepository;
+    private final MonthlyRollupService monthlyRollupService;
+    private final SettlementService settlementService;
+    private final PairwiseBalanceService pairwiseBalanceService;
+    private final TrackerMetrics trackerMetrics;
 
     /**
      * Create a new transaction.
@@ -29,93 +58,232 @@ public class TransactionService {
      * 3. Creating expense splits among friends (optional).
      */
     @Transactional // Ensures data consistency. If any step fails, everything rolls back.
-    public Transaction createTransaction(TransactionRequest request, User user) {
+    public TransactionResponse createTransaction(TransactionRequest request, User user) {
 
-        // 1. Validate and Retrieve Wallet
-        Wallet wallet = walletRepository.findById(request.getWalletId())
+        // 1. Validate the Wallet (from the wallet cache)
+        // Security Check: only the authenticated user's own wallets are found
+        WalletResponse wallet = walletCache.find(user.getId(), request.getWalletId())
                 .orElseThrow(() -> new RuntimeException("Wallet not found"));
 
-        // Security Check: Ensure the wallet belongs to the authenticated user
-        if (!wallet.getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("Access denied: You do not own this wallet");
-        }
-
-        // 2. Retrieve Category (Only required for EXPENSE transactions)
-        Category category = null;
+        // 2. Check the Category (Only required for EXPENSE transactions)
+        // Served from the category cache; it must be global or the user's own
+        CategoryResponse category = null;
         if (request.getCategoryId() != null) {
-            category = categoryRepository.findById(request.getCategoryId())
+            category = categoryCache.find(user.getId(), request.getCategoryId())
                     .orElseThrow(() -> new RuntimeException("Category not found"));
         }
 
         // 3. Update Wallet Balance (Business Logic)
-        if (request.getType() == TransactionType.EXPENSE) {
-            // Check for sufficient funds
-            if (wallet.getBalance() < request.getAmount()) {
-                throw new RuntimeException("Insufficient balance in wallet!");
-            }
-            wallet.setBalance(wallet.getBalance() - request.getAmount());
-        } else if (request.getType() == TransactionType.INCOME) {
-            wallet.setBalance(wallet.getBalance() + request.getAmount());
+        // Amounts are exact to the cent; anything finer is rejected rather than rounded
+        if (request.getAmount() == null || request.getAmount().signum() <= 0) {
+            throw new RuntimeException("Amount must be positive");
+        }
+        BigDecimal amount = Money.of(request.getAmount());
+
+        // Applied as one atomic UPDATE; the WHERE clause does the sufficient-funds check
+        long delta = balanceDelta(request.getType(), Money.toCents(amount));
+        if (delta != 0 && walletRepository.applyDelta(wallet.getId(), Money.fromCents(delta)) == 0) {
+            throw new RuntimeException("Insufficient balance in wallet!");
+        }
+        if (delta != 0) {
+            walletCache.invalidateUser(user.getId());
         }
-        
-        // Save the updated wallet balance
-        walletRepository.save(wallet);
 
         // 4. Handle Group Logic (Optional)
         Group group = null;
         if (request.getGroupId() != null) {
             group = groupRepository.findById(request.getGroupId())
                     .orElseThrow(() -> new RuntimeException("Group not found"));
+
+            // Only members can add bills to a group
+            if (!groupRepository.isMember(group.getId(), user.getId())) {
+                throw new RuntimeException("Access denied: You are not a member of this group");
+            }
         }
 
         // 5. Create and Save the Transaction Entity
         Transaction transaction = Transaction.builder()
-                .amount(request.getAmount())
+                .amount(amount)
                 .description(request.getDescription())
                 .date(request.getDate())
                 .type(request.getType())
                 .user(user)
-                .wallet(wallet)
-                .category(category)
+                .wallet(walletRepository.getReferenceById(wallet.getId())) // no SELECT
+                .category(category == null ? null : categoryRepository.getReferenceById(category.getId())) // no SELECT
                 .group(group) // Can be null if not a group expense
                 .build();
 
         Transaction savedTransaction = transactionRepository.save(transaction);
 
+        // Keep the monthly rollup in step (same DB transaction)
+        monthlyRollupService.record(savedTransaction, 1);
+
         // 6. Handle Expense Splitting (The "Splitwise" Logic) 🚀
         // Only executes if a Group is selected AND splitUserIds are provided
         if (group != null && request.getSplitUserIds() != null && !request.getSplitUserIds().isEmpty()) {
             
-            List<Long> userIdsToSplit = request.getSplitUserIds();
-            
-            // Logic: Equal Split
-            // Formula: Total Amount / Number of people
-            double splitAmount = request.getAmount() / userIdsToSplit.size();
+            // Duplicate ids would give someone two shares (or leave a split value without its user),
+            // so they are rejected in every mode
+            Set<Long> userIdsToSplit = new LinkedHashSet<>(request.getSplitUserIds());
+            SplitMode mode = request.getSplitMode() == null ? SplitMode.EQUAL : request.getSplitMode();
+            if (userIdsToSplit.size() != request.getSplitUserIds().size()) {
+                throw new RuntimeException("Each user can appear only once in a split");
+            }
+
+            // Shares in cents, one per user in request order; always add up to the bill
+            long[] shares = splitShares(mode, Money.toCents(amount), userIdsToSplit.size(), request.getSplitValues());
+
+            // Resolve every participant with a single query
+            List<User> splitUsers = userRepository.findAllById(userIdsToSplit);
+            if (splitUsers.size() != userIdsToSplit.size()) {
+                Set<Long> missing = new LinkedHashSet<>(userIdsToSplit);
+                splitUsers.forEach(splitUser -> missing.remove(splitUser.getId()));
+                throw new RuntimeException("User to split with not found: ID " + missing.iterator().next());
+            }
 
+            // Everyone in the split must belong to the group (one COUNT on group_members)
+            if (groupRepository.countMembersIn(group.getId(), userIdsToSplit) != userIdsToSplit.size()) {
+                throw new RuntimeException("All users in a split must be members of the group");
+            }
+
+            Map<Long, User> usersById = new HashMap<>();
+            splitUsers.forEach(splitUser -> usersById.put(splitUser.getId(), splitUser));
+
+            List<ExpenseSplit> splits = new ArrayList<>(shares.length);
+            int i = 0;
             for (Long splitUserId : userIdsToSplit) {
-                // Find the friend/user
-                User splitUser = userRepository.findById(splitUserId)
-                        .orElseThrow(() -> new RuntimeException("User to split with not found: ID " + splitUserId));
-                
                 // Create the debt record
-                ExpenseSplit split = ExpenseSplit.builder()
-                        .transaction(savedTransaction) // Link to the main bill
-                        .user(splitUser)               // Who owes/participated
-                        .amount(splitAmount)           // Their share
-                        .build();
+                splits.add(ExpenseSplit.builder()
+                        .transaction(savedTransaction)        // Link to the main bill
+                        .user(usersById.get(splitUserId))     // Who owes/participated
+                        .amount(Money.fromCents(shares[i++])) // Their share
+                        .build());
+            }
 
-                expenseSplitRepository.save(split);
+            // Written as one JDBC batch (hibernate.jdbc.batch_size)
+            expenseSplitRepository.saveAll(splits);
+            trackerMetrics.splitRowsWritten(splits.size());
+
+            // Everyone else in the split now owes the payer their share
+            for (ExpenseSplit split : splits) {
+                pairwiseBalanceService.addDebt(group.getId(), split.getUser().getId(), user.getId(),
+                        Money.toCents(split.getAmount()));
             }
+
+            // The group's debts changed
+            settlementService.invalidate(group.getId());
         }
 
-        return savedTransaction;
+        // Every association is already loaded here, so the response needs no extra query
+        return TransactionResponse.from(savedTransaction, RefDTO.of(wallet.getId(), wallet.getName()),
+                category == null ? null : RefDTO.of(category.getId(), category.getName()));
     }
 
     /**
      * Retrieve all transactions for a specific user, ordered by date (newest first).
      */
-    public List<Transaction> getMyTransactions(User user) {
-        return transactionRepository.findAllByUserOrderByDateDesc(user);
+    @Transactional(readOnly = true)
+    public List<TransactionResponse> getMyTransactions(User user) {
+        return transactionRepository.findResponsesByUserId(user.getId());
+    }
+
+    /**
+     * Retrieve one page of the user's history, newest first.
+     * Uses keyset (date, id) pagination, so the cost depends on the page size
+     * and not on how deep into the history the client is.
+     */
+    @Transactional(readOnly = true)
+    public TransactionPage getTransactionPage(User user, String cursor, Integer size) {
+        int pageSize = pageSize(size);
+
+        // Fetch one extra row to know whether another page exists
+        return toPage(fetchPage(user.getId(), decode(cursor), pageSize + 1), pageSize);
+    }
+
+    /**
+     * One page of a group's bills, newest first (same keyset pagination as above).
+     * No membership check here: callers in this package check access first.
+     */
+    @Transactional(readOnly = true)
+    TransactionPage getGroupTransactionPage(Long groupId, String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        TransactionCursor after = decode(cursor);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<TransactionResponse> rows = (after == null)
+                ? transactionRepository.findPageByGroupId(groupId, page)
+                : transactionRepository.findPageByGroupIdAfter(groupId, after.getDate(), after.getId(), page);
+        return toPage(rows, pageSize);
+    }
+
+    /**
+     * Search the user's history by description words, amount and date range, type, wallet,
+     * category and group; newest first with the same keyset pagination.
+     * Only the filters that are set end up in the SQL (see TransactionSearchRepositoryImpl).
+     */
+    @Transactional(readOnly = true)
+    public TransactionPage searchTransactions(User user, TransactionSearch search, String cursor, Integer size) {
+        if (search.getMinAmount() != null && search.getMaxAmount() != null
+                && search.getMinAmount().compareTo(search.getMaxAmount()) > 0) {
+            throw new RuntimeException("minAmount must not be greater than maxAmount");
+        }
+        if (search.getFrom() != null && search.getTo() != null && search.getFrom().isAfter(search.getTo())) {
+            throw new RuntimeException("from must not be after to");
+        }
+
+        int pageSize = pageSize(size);
+        return toPage(transactionRepository.search(user.getId(), search, decode(cursor), pageSize + 1), pageSize);
+    }
+
+    private static int pageSize(Integer size) {
+        return (size == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static TransactionCursor decode(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : TransactionCursor.decode(cursor);
+    }
+
+    // Trim the extra row and turn it into the next cursor
+    private static TransactionPage toPage(List<TransactionResponse> rows, int pageSize) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = TransactionCursor.encode(rows.get(pageSize - 1));
+        }
+
+        return TransactionPage.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Walk the user's whole history chunk by chunk and hand each row to the sink.
+     * Every chunk is its own short read, so no connection or transaction is held
+     * while the client drains the response, and only one chunk is on the heap.
+     */
+    public void streamTransactions(User user, Consumer<TransactionResponse> sink) {
+        streamTransactionChunks(user, chunk -> chunk.forEach(sink));
+    }
+
+    // Same walk, handing over one chunk (up to EXPORT_CHUNK_SIZE rows) at a time
+    public void streamTransactionChunks(User user, Consumer<List<TransactionResponse>> sink) {
+        TransactionCursor position = null;
+        List<TransactionResponse> chunk;
+        do {
+            chunk = fetchPage(user.getId(), position, EXPORT_CHUNK_SIZE);
+            sink.accept(chunk);
+            if (!chunk.isEmpty()) {
+                TransactionResponse last = chunk.get(chunk.size() - 1);
+                position = new TransactionCursor(last.getDate(), last.getId());
+            }
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
+    }
+
+    private List<TransactionResponse> fetchPage(Long userId, TransactionCursor after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return (after == null)
+                ? transactionRepository.findPageByUserId(userId, page)
+                : transactionRepository.findPageByUserIdAfter(userId, after.getDate(), after.getId(), page);
     }
 
     /**
@@ -133,21 +301,85 @@ public class TransactionService {
             throw new RuntimeException("Access denied: You can only delete your own transactions");
         }
 
-        // Delete expense splits first (if any)
-        expenseSplitRepository.deleteAll(
-            expenseSplitRepository.findAllByTransaction(transaction)
-        );
+        // Delete expense splits first (if any), taking their debts back out of the pairwise balances
+        List<ExpenseSplit> splits = expenseSplitRepository.findAllByTransaction(transaction);
+        if (transaction.getGroup() != null && !splits.isEmpty()) {
+            for (ExpenseSplit split : splits) {
+                pairwiseBalanceService.addDebt(transaction.getGroup().getId(), split.getUser().getId(),
+                        transaction.getUser().getId(), -Money.toCents(split.getAmount()));
+            }
+            settlementService.invalidate(transaction.getGroup().getId());
+        }
+        expenseSplitRepository.deleteAll(splits);
 
-        // Revert wallet balance
-        Wallet wallet = transaction.getWallet();
-        if (transaction.getType() == TransactionType.EXPENSE) {
-            wallet.setBalance(wallet.getBalance() + transaction.getAmount());
-        } else if (transaction.getType() == TransactionType.INCOME) {
-            wallet.setBalance(wallet.getBalance() - transaction.getAmount());
+        // Revert wallet balance (atomic, same as in createTransaction)
+        long delta = -balanceDelta(transaction.getType(), Money.toCents(transaction.getAmount()));
+        if (delta != 0 && walletRepository.applyDelta(transaction.getWallet().getId(), Money.fromCents(delta)) == 0) {
+            throw new RuntimeException("Insufficient balance in wallet to revert this transaction");
         }
-        walletRepository.save(wallet);
+        if (delta != 0) {
+            walletCache.invalidateUser(user.getId());
+        }
+
+        // Take it out of its monthly rollup
+        monthlyRollupService.record(transaction, -1);
 
         // Delete the transaction
         transactionRepository.delete(transaction);
     }
-}
\ No newline at end of file
+
+    /**
+     * Divide a bill between 'parts' users according to the split mode.
+     * EQUAL and SHARES/PERCENTAGE round to the cent with Money.splitEvenly / Money.allocate;
+     * EXACT amounts and percentages must add up exactly, anything else is rejected.
+     */
+    static long[] splitShares(SplitMode mode, long totalCents, int parts, List<BigDecimal> values) {
+        if (mode == SplitMode.EQUAL) {
+            return Money.splitEvenly(totalCents, parts);
+        }
+        if (values == null || values.size() != parts) {
+            throw new RuntimeException("Provide one split value per user");
+        }
+
+        // Values in hundredths (cents, 0.01 shares or 0.01 %), no boxing from here on
+        long[] units = new long[parts];
+        long sum = 0;
+        for (int i = 0; i < parts; i++) {
+            BigDecimal value = values.get(i);
+            if (value == null || value.signum() <= 0) {
+                throw new RuntimeException("Split values must be positive");
+            }
+            units[i] = Money.toCents(value);
+            sum += units[i];
+        }
+
+        switch (mode) {
+            case EXACT -> {
+                if (sum != totalCents) {
+                    throw new RuntimeException("Split amounts add up to " + Money.fromCents(sum)
+                            + " but the bill is " + Money.fromCents(totalCents));
+                }
+                return units;
+            }
+            case PERCENTAGE -> {
+                if (sum != 100_00) {
+                    throw new RuntimeException("Split percentages add up to " + Money.fromCents(sum) + " instead of 100");
+                }
+                return Money.allocate(totalCents, units);
+            }
+            default -> {
+                return Money.allocate(totalCents, units);
+            }
+        }
+    }
+
+    // How a transaction moves its wallet balance: income adds, expense subtracts, transfer is neutral
+    static long balanceDelta(TransactionType type, long amount) {
+        if (type == TransactionType.EXPENSE) {
+            return -amount;
+        } else if (type == TransactionType.INCOME) {
+            return amount;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.config.ReadThroughCache;
+import com.finance.tracker.dto.WalletResponse;
+import com.finance.tracker.repository.WalletRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-through cache of each user's wallets (id, name, balance, currency).
+ * Bounded in size and expired after a TTL. Every balance change goes through
+ * invalidateUser, which evicts right away and again once the writing transaction
+ * has completed, so a read that loaded the old balance in between is dropped
+ * and no reader sees a stale balance after the write returns. Misses load on the
+ * caller's thread (see ReadThroughCache): createTransaction looks wallets up inside
+ * its transaction.
+ * The cache is per instance: with several instances, the TTL bounds how long
+ * another instance can serve an old balance.
+ */
+@Component
+public class WalletCache {
+
+    private final WalletRepository walletRepository;
+    private final ReadThroughCache<Long, Map<Long, WalletResponse>> cache;
+
+    public WalletCache(
+            WalletRepository walletRepository,
+            @Value("${wallets.cache.max-users:10000}") long maxUsers,
+            @Value("${wallets.cache.ttl:1m}") Duration ttl
+    ) {
+        this.walletRepository = walletRepository;
+        this.cache = new ReadThroughCache<>(Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl));
+    }
+
+    public List<WalletResponse> getAll(Long userId) {
+        return new ArrayList<>(wallets(userId).values());
+    }
+
+    // One of the user's wallets, or empty if it does not exist or belongs to someone else
+    public Optional<WalletResponse> find(Long userId, Long walletId) {
+        return Optional.ofNullable(wallets(userId).get(walletId));
+    }
+
+    // A wallet of the user was created or its balance changed
+    public void invalidateUser(Long userId) {
+        cache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private Map<Long, WalletResponse> wallets(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    // Unmodifiable, id order kept
+    private Map<Long, WalletResponse> load(Long userId) {
+        Map<Long, WalletResponse> wallets = new LinkedHashMap<>();
+        walletRepository.findResponsesByUserId(userId).forEach(wallet -> wallets.put(wallet.getId(), wallet));
+        return Collections.unmodifiableMap(wallets);
+    }
+}
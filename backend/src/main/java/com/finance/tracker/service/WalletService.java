@@ -1,36 +1,49 @@
 package com.finance.tracker.service;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
+import com.finance.tracker.model.Money;
 import com.finance.tracker.model.Wallet;
 import com.finance.tracker.repository.WalletRepository;
 import com.finance.tracker.dto.WalletRequest;
+import com.finance.tracker.dto.WalletResponse;
 import com.finance.tracker.model.User;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed("tracker.service")
 @RequiredArgsConstructor  // For dependency injection
 public class WalletService {
 
     private final WalletRepository walletRepository;
+    private final WalletCache walletCache;
 
-    // 1. get all the wallets for a user
-    public List<Wallet>getWallets(User user){
-        return walletRepository.findAllByUser(user);
+    // 1. get all the wallets for a user (read through the wallet cache)
+    public List<WalletResponse> getWallets(User user){
+        return walletCache.getAll(user.getId());
     }
 
     // 2. create a new wallet
-    public Wallet createWallet(WalletRequest request, User user){
+    public WalletResponse createWallet(WalletRequest request, User user){
         var wallet = Wallet.builder()
                 .name(request.getName())
-                .balance(request.getBalance())
+                .balance(request.getBalance() == null ? Money.ZERO : Money.of(request.getBalance()))
                 .currency(request.getCurrency())
                 .user(user)  // associate wallet with user
                 .build();  // build wallet object
 
-        return walletRepository.save(wallet);
+        Wallet saved = walletRepository.save(wallet);
+        walletCache.invalidateUser(user.getId());
+
+        return WalletResponse.builder()
+                .id(saved.getId())
+                .name(saved.getName())
+                .balance(saved.getBalance())
+                .currency(saved.getCurrency())
+                .build();
     }
 
 }
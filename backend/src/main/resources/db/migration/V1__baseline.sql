@@ -0,0 +1,124 @@
+-- Baseline schema (MySQL 8), equal to what ddl-auto: update plus update_schema.sql produce.
+-- Existing databases are not re-created: the prod profile baselines them at version 1
+-- (spring.flyway.baseline-on-migrate), so only later versions run there.
+
+CREATE TABLE users (
+    id       BIGINT NOT NULL AUTO_INCREMENT,
+    email    VARCHAR(255) NOT NULL,
+    username VARCHAR(255),
+    password VARCHAR(255),
+    role     ENUM('USER', 'ADMIN'),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE categories (
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    name    VARCHAR(255) NOT NULL,
+    type    ENUM('INCOME', 'EXPENSE', 'TRANSFER') NOT NULL,
+    user_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_name UNIQUE (name),
+    CONSTRAINT fk_categories_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE wallets (
+    id       BIGINT NOT NULL AUTO_INCREMENT,
+    name     VARCHAR(255) NOT NULL,
+    balance  DECIMAL(19, 2) NOT NULL,
+    currency VARCHAR(255) NOT NULL,
+    user_id  BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_wallets_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE expence_groups (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    created_by  BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_expence_groups_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE group_members (
+    group_id BIGINT NOT NULL,
+    user_id  BIGINT NOT NULL,
+    PRIMARY KEY (group_id, user_id),
+    INDEX idx_group_members_user_group (user_id, group_id),
+    CONSTRAINT fk_group_members_group FOREIGN KEY (group_id) REFERENCES expence_groups (id),
+    CONSTRAINT fk_group_members_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE transactions (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    amount      DECIMAL(19, 2) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    date        DATE NOT NULL,
+    type        ENUM('INCOME', 'EXPENSE', 'TRANSFER') NOT NULL,
+    user_id     BIGINT NOT NULL,
+    wallet_id   BIGINT NOT NULL,
+    category_id BIGINT,
+    group_id    BIGINT,
+    PRIMARY KEY (id),
+    INDEX idx_transactions_user_date_id (user_id, date, id),
+    INDEX idx_transactions_group_date_id (group_id, date, id),
+    CONSTRAINT fk_transactions_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_transactions_wallet FOREIGN KEY (wallet_id) REFERENCES wallets (id),
+    CONSTRAINT fk_transactions_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_transactions_group FOREIGN KEY (group_id) REFERENCES expence_groups (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE expense_splits (
+    id             BIGINT NOT NULL,
+    transaction_id BIGINT NOT NULL,
+    user_id        BIGINT NOT NULL,
+    amount         DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_expense_splits_transaction FOREIGN KEY (transaction_id) REFERENCES transactions (id),
+    CONSTRAINT fk_expense_splits_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- Pooled id sequence of expense_splits (Hibernate's table emulation on MySQL)
+CREATE TABLE expense_splits_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO expense_splits_seq (next_val) VALUES (1);
+
+CREATE TABLE monthly_rollups (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT NOT NULL,
+    wallet_id   BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    type        ENUM('INCOME', 'EXPENSE', 'TRANSFER') NOT NULL,
+    total       DECIMAL(19, 2) NOT NULL,
+    tx_count    BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_monthly_rollups_key UNIQUE (user_id, wallet_id, category_id, month_start, type)
+) ENGINE = InnoDB;
+
+CREATE TABLE pairwise_balances (
+    id       BIGINT NOT NULL AUTO_INCREMENT,
+    group_id BIGINT NOT NULL,
+    user_a   BIGINT NOT NULL,
+    user_b   BIGINT NOT NULL,
+    balance  DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_pairwise_balances_pair UNIQUE (group_id, user_a, user_b)
+) ENGINE = InnoDB;
+
+CREATE TABLE settlements (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    group_id     BIGINT NOT NULL,
+    from_user_id BIGINT NOT NULL,
+    to_user_id   BIGINT NOT NULL,
+    amount       DECIMAL(19, 2) NOT NULL,
+    date         DATE NOT NULL,
+    note         VARCHAR(255),
+    PRIMARY KEY (id),
+    INDEX idx_settlements_group_date (group_id, date),
+    CONSTRAINT fk_settlements_group FOREIGN KEY (group_id) REFERENCES expence_groups (id),
+    CONSTRAINT fk_settlements_from_user FOREIGN KEY (from_user_id) REFERENCES users (id),
+    CONSTRAINT fk_settlements_to_user FOREIGN KEY (to_user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- Indexes behind GET /api/transactions/search.
+-- Each filter gets a composite index that ends in (date, id), so a filtered page is an index
+-- range read in keyset order: no filesort, however old the account.
+CREATE INDEX idx_transactions_wallet_date_id ON transactions (wallet_id, date, id);
+CREATE INDEX idx_transactions_user_type_date_id ON transactions (user_id, type, date, id);
+CREATE INDEX idx_transactions_user_category_date_id ON transactions (user_id, category_id, date, id);
+
+-- The FULLTEXT index on description is MySQL-only: db/vendor/mysql/V2_1__transaction_fulltext.sql
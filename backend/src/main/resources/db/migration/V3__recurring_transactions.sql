@@ -0,0 +1,39 @@
+-- Recurring transactions (RecurringTransactionService / RecurringTransactionJob).
+-- The job reads due rules in (next_due_date, id) order, so a run only touches rules that are due.
+CREATE TABLE recurring_transactions (
+    id               BIGINT NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT NOT NULL,
+    wallet_id        BIGINT NOT NULL,
+    category_id      BIGINT,
+    amount           DECIMAL(19, 2) NOT NULL,
+    description      VARCHAR(255) NOT NULL,
+    type             ENUM('INCOME', 'EXPENSE', 'TRANSFER') NOT NULL,
+    frequency        ENUM('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY', 'CRON') NOT NULL,
+    interval_count   INT NOT NULL,
+    cron             VARCHAR(255),
+    start_date       DATE NOT NULL,
+    end_date         DATE,
+    next_due_date    DATE,
+    occurrence_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_recurring_transactions_due (next_due_date, id),
+    INDEX idx_recurring_transactions_user (user_id),
+    CONSTRAINT fk_recurring_transactions_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_recurring_transactions_wallet FOREIGN KEY (wallet_id) REFERENCES wallets (id),
+    CONSTRAINT fk_recurring_transactions_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+-- One row per scheduled job; the instance holding an unexpired lease runs it (SchedulerLeaseService).
+CREATE TABLE scheduler_leases (
+    name       VARCHAR(255) NOT NULL,
+    owner      VARCHAR(255) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- Occurrences booked from a rule. No foreign key: deleting a rule keeps its transactions.
+-- The unique key rejects the same occurrence booked twice (NULLs, i.e. ordinary transactions, never collide).
+-- One change per statement: H2 (schema tests) does not take MySQL's comma-separated ALTER list.
+ALTER TABLE transactions ADD COLUMN recurring_id BIGINT;
+ALTER TABLE transactions ADD COLUMN occurrence_date DATE;
+ALTER TABLE transactions ADD CONSTRAINT uk_transactions_recurring_occurrence UNIQUE (recurring_id, occurrence_date);
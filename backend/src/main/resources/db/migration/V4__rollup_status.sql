@@ -0,0 +1,7 @@
+-- Users whose monthly_rollups are complete (RollupStatus); the dashboard reads rollups only for them.
+-- Existing users start unmarked and keep the raw-transaction totals until RollupVerificationJob
+-- finds their rollups clean, or a rebuild recomputes them.
+CREATE TABLE rollup_status (
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,34 @@
+package com.finance.tracker;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// The prod setup on H2 (MySQL mode): Flyway builds the schema, Hibernate only validates it.
+// The context fails to start if a migration and an entity disagree on a table, column or type.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,DATE,TYPE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration,classpath:db/h2",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        // V3 declares DATETIME(6) for Instant columns, as Hibernate does on MySQL
+        "spring.jpa.properties.hibernate.type.preferred_instant_jdbc_type=TIMESTAMP"
+})
+@ActiveProfiles("test")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrationsMatchTheEntities() {
+        assertEquals(0, flyway.info().pending().length);
+        assertNotNull(flyway.info().current());
+        assertEquals("4", flyway.info().current().getVersion().getVersion());
+    }
+}
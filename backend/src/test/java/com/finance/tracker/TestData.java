@@ -0,0 +1,91 @@
+package com.finance.tracker;
+
+import com.finance.tracker.dto.GroupRequest;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.Role;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.repository.UserRepository;
+import com.finance.tracker.repository.WalletRepository;
+import com.finance.tracker.service.GroupService;
+import com.finance.tracker.service.MonthlyRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Rows the database tests build on (H2, "test" profile): users with unique emails, wallets,
+ * groups and transaction requests. Pull it in with @Import(TestData.class).
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestData {
+
+    private final UserRepository userRepository;
+    private final WalletRepository walletRepository;
+    private final GroupService groupService;
+    private final MonthlyRollupService rollupService;
+
+    public User user(String name) {
+        return user(name, Role.USER);
+    }
+
+    // Like AuthenticationService.register: a new user's (empty) rollups are complete
+    public User user(String name, Role role) {
+        User user = userRepository.save(User.builder()
+                .username(name)
+                .email(name + "-" + System.nanoTime() + "@test.local")
+                .password("secret")
+                .role(role)
+                .build());
+        rollupService.markComplete(user.getId());
+        return user;
+    }
+
+    public Wallet wallet(User owner, String name, String balance) {
+        return walletRepository.save(Wallet.builder()
+                .name(name)
+                .balance(new BigDecimal(balance))
+                .currency("LKR")
+                .user(owner)
+                .build());
+    }
+
+    public BigDecimal balanceOf(Wallet wallet) {
+        return walletRepository.findById(wallet.getId()).orElseThrow().getBalance();
+    }
+
+    // The creator is always a member; the others are added by id
+    public Long group(User creator, String name, User... members) {
+        GroupRequest request = new GroupRequest();
+        request.setName(name);
+        request.setMemberIds(Arrays.stream(members).map(User::getId).collect(Collectors.toSet()));
+        return groupService.createGroup(request, creator).getId();
+    }
+
+    public static TransactionRequest request(Wallet wallet, TransactionType type, String amount,
+                                             String description, LocalDate date) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAmount(new BigDecimal(amount));
+        request.setDescription(description);
+        request.setDate(date);
+        request.setType(type);
+        request.setWalletId(wallet.getId());
+        return request;
+    }
+
+    // An expense in the group, split equally between the given users
+    public static TransactionRequest bill(Wallet wallet, Long groupId, String amount, String description,
+                                          LocalDate date, List<Long> splitUserIds) {
+        TransactionRequest request = request(wallet, TransactionType.EXPENSE, amount, description, date);
+        request.setGroupId(groupId);
+        request.setSplitUserIds(splitUserIds);
+        return request;
+    }
+}
@@ -0,0 +1,107 @@
+package com.finance.tracker.config;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.GroupRequest;
+import com.finance.tracker.dto.GroupResponse;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.enums.Role;
+import com.finance.tracker.repository.UserRepository;
+import com.finance.tracker.service.GroupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Principals are cached per token and dropped by UserCacheEvictionListener on update / delete (H2)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class PrincipalCacheTest {
+
+    private static final Date ISSUED_AT = new Date(1_700_000_000_000L);
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private TestData testData;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = testData.user("principal");
+    }
+
+    @Test
+    void cachesASnapshotAndHandsOutSeparateInstances() {
+        UserDetails first = get();
+        UserDetails second = get();
+
+        assertEquals(1, loads.get());
+        assertNotSame(first, second);
+        assertEquals(user.getId(), ((User) second).getId());
+    }
+
+    @Test
+    void updateEvictsTheOldRole() {
+        get();
+        user.setRole(Role.ADMIN);
+        userRepository.save(user);
+
+        assertEquals("ADMIN", get().getAuthorities().iterator().next().getAuthority());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void deleteEvictsThePrincipal() {
+        get();
+        userRepository.delete(user);
+
+        assertThrows(UsernameNotFoundException.class, this::get);
+    }
+
+    @Test
+    void creatorListingThemselvesIsOneMember() {
+        User principal = (User) get();
+        User friend = testData.user("friend");
+        GroupRequest request = new GroupRequest();
+        request.setName("Flat");
+        request.setMemberIds(Set.of(principal.getId(), friend.getId()));
+
+        // The cached principal is a copy, never equal to the managed User with the same id
+        GroupResponse group = groupService.createGroup(request, principal);
+
+        assertEquals(2L, group.getMemberCount());
+        assertEquals(2, groupService.getGroupMembers(group.getId(), principal).size());
+    }
+
+    private UserDetails get() {
+        Function<String, UserDetails> loader = email -> {
+            loads.incrementAndGet();
+            return userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        };
+        return principalCache.get(user.getEmail(), ISSUED_AT, loader);
+    }
+}
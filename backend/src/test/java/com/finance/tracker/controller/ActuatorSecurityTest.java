@@ -0,0 +1,96 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.config.JwtService;
+import com.finance.tracker.model.enums.Role;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// Actuator permit list in SecurityConfig: probes and info are public, the rest is ADMIN only
+// (the scrape too, unless metrics.public-scrape is on)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestData.class)
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void probesAndInfoNeedNoToken() throws Exception {
+        assertEquals(200, status("/actuator/health", null));
+        assertEquals(200, status("/actuator/health/liveness", null));
+        assertEquals(200, status("/actuator/health/readiness", null));
+        assertPermitted(status("/actuator/info", null));
+    }
+
+    @Test
+    void otherEndpointsAreAdminOnly() throws Exception {
+        assertDenied(status("/actuator/metrics", null));
+        assertDenied(status("/actuator/metrics", tokenFor(Role.USER)));
+        assertEquals(200, status("/actuator/metrics", tokenFor(Role.ADMIN)));
+    }
+
+    @Test
+    void scrapeIsAdminOnlyOnTheAppPort() throws Exception {
+        assertDenied(status("/actuator/prometheus", null));
+        assertDenied(status("/actuator/prometheus", tokenFor(Role.USER)));
+        // The Prometheus registry may be off in tests (404); security must still let the request through
+        assertPermitted(status("/actuator/prometheus", tokenFor(Role.ADMIN)));
+    }
+
+    @Test
+    void rootAnswersSignedInUsers() throws Exception {
+        assertEquals(200, status("/", tokenFor(Role.USER)));
+    }
+
+    // As in the prod profile, where actuator is on MANAGEMENT_PORT
+    @Nested
+    @TestPropertySource(properties = "metrics.public-scrape=true")
+    class PublicScrape {
+
+        @Test
+        void scrapeNeedsNoToken() throws Exception {
+            assertPermitted(status("/actuator/prometheus", null));
+            assertDenied(status("/actuator/metrics", null));
+        }
+    }
+
+    private int status(String path, String token) throws Exception {
+        var request = get(path);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return mockMvc.perform(request).andReturn().getResponse().getStatus();
+    }
+
+    private String tokenFor(Role role) {
+        return jwtService.generateToken(testData.user("actuator", role));
+    }
+
+    private static void assertPermitted(int status) {
+        assertTrue(status != 401 && status != 403, "status " + status);
+    }
+
+    private static void assertDenied(int status) {
+        assertTrue(status == 401 || status == 403, "status " + status);
+    }
+}
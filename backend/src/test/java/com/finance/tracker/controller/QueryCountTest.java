@@ -0,0 +1,158 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.config.QueryStats;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The number of SQL statements behind a list endpoint must not grow with the number of rows (no N+1)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class QueryCountTest {
+
+    @Autowired
+    private GroupController groupController;
+
+    @Autowired
+    private TransactionController transactionController;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void myGroupsIsOneQuery() {
+        User user = newUser();
+        testData.group(user, "Trip");
+        long few = statementsOf(() -> groupController.getMyGroups(user));
+
+        for (int i = 0; i < 4; i++) {
+            testData.group(user, "Trip", newUser());
+        }
+        long many = statementsOf(() -> groupController.getMyGroups(user));
+
+        assertEquals(1, few);
+        assertEquals(few, many);
+    }
+
+    @Test
+    void groupTransactionsDoNotGrowWithBills() {
+        User payer = newUser();
+        User friend = newUser();
+        Wallet wallet = newWallet(payer);
+        Long groupId = testData.group(payer, "Trip", friend);
+
+        addBill(payer, wallet, groupId, List.of(payer.getId(), friend.getId()));
+        long few = statementsOf(() -> groupController.getGroupTransactions(groupId, payer));
+
+        for (int i = 0; i < 9; i++) {
+            addBill(payer, wallet, groupId, List.of(payer.getId(), friend.getId()));
+        }
+        long many = statementsOf(() -> groupController.getGroupTransactions(groupId, payer));
+
+        assertEquals(few, many);
+    }
+
+    @Test
+    void groupOverviewDoesNotGrowWithBills() {
+        User payer = newUser();
+        User friend = newUser();
+        Wallet wallet = newWallet(payer);
+        Long groupId = testData.group(payer, "Trip", friend);
+
+        addBill(payer, wallet, groupId, List.of(payer.getId(), friend.getId()));
+        long few = statementsOf(() -> groupController.getGroupOverview(groupId, null, payer));
+
+        for (int i = 0; i < 9; i++) {
+            addBill(payer, wallet, groupId, List.of(payer.getId(), friend.getId()));
+        }
+        long many = statementsOf(() -> groupController.getGroupOverview(groupId, null, payer));
+
+        assertEquals(few, many);
+    }
+
+    @Test
+    void groupBillAddsOnlyTheDebtUpsertPerParticipant() {
+        User payer = newUser();
+        Wallet wallet = newWallet(payer);
+        List<User> friends = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            friends.add(newUser());
+        }
+        Long groupId = testData.group(payer, "Trip", friends.toArray(User[]::new));
+
+        long two = statementsOf(() -> addBill(payer, wallet, groupId, List.of(payer.getId(), friends.get(0).getId())));
+        List<Long> six = new ArrayList<>(List.of(payer.getId()));
+        friends.forEach(friend -> six.add(friend.getId()));
+        long many = statementsOf(() -> addBill(payer, wallet, groupId, six));
+
+        // Users, membership and the split rows stay one statement each; only the pairwise
+        // upserts grow. +1: the pooled expense_splits sequence may refill during either call.
+        assertTrue(many - two <= (six.size() - 2) + 1, two + " -> " + many);
+    }
+
+    @Test
+    void myTransactionsDoNotGrowWithHistory() {
+        User user = newUser();
+        Wallet wallet = newWallet(user);
+
+        addIncome(user, wallet);
+        long few = statementsOf(() -> transactionController.getAllTransactions(user));
+
+        for (int i = 0; i < 9; i++) {
+            addIncome(user, wallet);
+        }
+        long many = statementsOf(() -> transactionController.getAllTransactions(user));
+
+        assertEquals(few, many);
+    }
+
+    // Statements of the second call: the first one warms the in-process caches
+    private static long statementsOf(Runnable call) {
+        call.run();
+        QueryStats stats = QueryStats.begin();
+        try {
+            call.run();
+            return stats.statements();
+        } finally {
+            QueryStats.end();
+        }
+    }
+
+    private void addBill(User payer, Wallet wallet, Long groupId, List<Long> splitUserIds) {
+        TransactionRequest request = request(wallet, TransactionType.EXPENSE);
+        request.setGroupId(groupId);
+        request.setSplitUserIds(splitUserIds);
+        transactionController.createTransaction(request, payer);
+    }
+
+    private void addIncome(User user, Wallet wallet) {
+        transactionController.createTransaction(request(wallet, TransactionType.INCOME), user);
+    }
+
+    private User newUser() {
+        return testData.user("queries");
+    }
+
+    private Wallet newWallet(User user) {
+        return testData.wallet(user, "Queries", "1000.00");
+    }
+
+    private static TransactionRequest request(Wallet wallet, TransactionType type) {
+        return TestData.request(wallet, type, "10.00", "bill", LocalDate.now());
+    }
+}
@@ -0,0 +1,64 @@
+package com.finance.tracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    void evenSplitGivesLeftoverCentsToTheFirstParts() {
+        assertArrayEquals(new long[]{3334, 3333, 3333}, Money.splitEvenly(10000, 3));
+        assertArrayEquals(new long[]{1, 0}, Money.splitEvenly(1, 2));
+        assertArrayEquals(new long[]{0, 0, 0}, Money.splitEvenly(0, 3));
+        // A refund splits like the bill, negated
+        assertArrayEquals(new long[]{-3334, -3333, -3333}, Money.splitEvenly(-10000, 3));
+    }
+
+    @Test
+    void splitsAlwaysAddUpToTheTotal() {
+        for (long total : new long[]{-10001, -1, 1, 7, 9999, 10000, 123457}) {
+            for (int parts = 1; parts <= 7; parts++) {
+                assertEquals(total, Arrays.stream(Money.splitEvenly(total, parts)).sum());
+                long[] weights = new long[parts];
+                for (int i = 0; i < parts; i++) {
+                    weights[i] = i + 1;
+                }
+                assertEquals(total, Arrays.stream(Money.allocate(total, weights)).sum());
+            }
+        }
+    }
+
+    @Test
+    void allocationIsProportionalWithLargestRemaindersFirst() {
+        // 1.00 as 1 : 1 : 1 -> 33.33.. each, the first part gets the extra cent on the tie
+        assertArrayEquals(new long[]{34, 33, 33}, Money.allocate(100, new long[]{1, 1, 1}));
+        // 0.10 as 1 : 2 -> 3.33 / 6.66, the larger remainder wins the cent
+        assertArrayEquals(new long[]{3, 7}, Money.allocate(10, new long[]{1, 2}));
+        assertArrayEquals(new long[]{-34, -33, -33}, Money.allocate(-100, new long[]{1, 1, 1}));
+    }
+
+    @Test
+    void rejectsEmptyOrNonPositiveParts() {
+        assertThrows(RuntimeException.class, () -> Money.splitEvenly(100, 0));
+        assertThrows(RuntimeException.class, () -> Money.splitEvenly(100, -2));
+        assertThrows(RuntimeException.class, () -> Money.allocate(100, new long[0]));
+        assertThrows(RuntimeException.class, () -> Money.allocate(100, new long[]{1, 0}));
+        assertThrows(RuntimeException.class, () -> Money.allocate(100, new long[]{2, -1}));
+    }
+
+    @Test
+    void amountsKeepTwoDecimalsWithoutRounding() {
+        assertEquals(new BigDecimal("12.50"), Money.of(new BigDecimal("12.5")));
+        assertEquals(new BigDecimal("3.00"), Money.of(new BigDecimal("3.000")));
+        assertEquals(1250, Money.toCents(new BigDecimal("12.5")));
+        assertEquals(new BigDecimal("-0.05"), Money.fromCents(-5));
+        assertThrows(RuntimeException.class, () -> Money.of(new BigDecimal("10.005")));
+        assertThrows(RuntimeException.class, () -> Money.toCents(new BigDecimal("0.001")));
+    }
+}
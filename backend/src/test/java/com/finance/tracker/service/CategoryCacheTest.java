@@ -0,0 +1,78 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.CategoryRequest;
+import com.finance.tracker.dto.CategoryResponse;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Global categories are shared, a user's own ones are visible to that user only (H2)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class CategoryCacheTest {
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void globalsAreSharedAndOwnCategoriesArePrivate() {
+        User alice = newUser();
+        User bob = newUser();
+        Category global = categoryRepository.save(Category.builder()
+                .name("Global " + System.nanoTime())
+                .type(TransactionType.EXPENSE)
+                .build());
+        // Seed data is picked up on the next snapshot reload
+        ReflectionTestUtils.setField(categoryCache, "globals", null);
+
+        // Load both overlays before the new category exists
+        assertTrue(categoryCache.find(alice.getId(), global.getId()).isPresent());
+        assertTrue(categoryCache.find(bob.getId(), global.getId()).isPresent());
+
+        CategoryResponse own = categoryService.createCategory(request("Own " + System.nanoTime()), alice);
+
+        // createCategory dropped alice's overlay, so the new category is visible right away
+        assertTrue(categoryCache.find(alice.getId(), own.getId()).isPresent());
+        assertTrue(ids(categoryCache.getAll(alice.getId())).containsAll(List.of(global.getId(), own.getId())));
+        assertFalse(categoryCache.find(bob.getId(), own.getId()).isPresent());
+        assertFalse(ids(categoryCache.getAll(bob.getId())).contains(own.getId()));
+    }
+
+    private static List<Long> ids(List<CategoryResponse> categories) {
+        return categories.stream().map(CategoryResponse::getId).toList();
+    }
+
+    private static CategoryRequest request(String name) {
+        CategoryRequest request = new CategoryRequest();
+        request.setName(name);
+        request.setType(TransactionType.EXPENSE);
+        return request;
+    }
+
+    private User newUser() {
+        return testData.user("categories");
+    }
+}
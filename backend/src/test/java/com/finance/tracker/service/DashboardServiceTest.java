@@ -0,0 +1,125 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.DashboardSummary;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// GET /api/dashboard/summary: SQL aggregates over raw transactions (partial months) and rollups (whole months)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class DashboardServiceTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = testData.user("dashboard");
+        Wallet main = testData.wallet(user, "Main", "1000.00");
+        Wallet savings = testData.wallet(user, "Savings", "500.00");
+        Category food = categoryRepository.save(Category.builder()
+                .name("Food " + System.nanoTime())
+                .type(TransactionType.EXPENSE)
+                .user(user)
+                .build());
+
+        add(main, null, TransactionType.INCOME, "2000.00", LocalDate.of(2025, 1, 10));
+        add(main, food, TransactionType.EXPENSE, "100.00", LocalDate.of(2025, 1, 20));
+        add(savings, null, TransactionType.EXPENSE, "50.00", LocalDate.of(2025, 2, 5));
+        add(main, food, TransactionType.EXPENSE, "30.00", LocalDate.of(2025, 2, 25));
+    }
+
+    @Test
+    void openRangeGroupsByMonthCategoryAndWallet() {
+        DashboardSummary summary = dashboardService.getSummary(user, null, null);
+
+        assertEquals("2000.00", money(summary.getTotalIncome()));
+        assertEquals("180.00", money(summary.getTotalExpense()));
+        assertEquals("3320.00", money(summary.getTotalBalance())); // 1000 + 500 + 2000 - 180
+        assertEquals(List.of("2025-1 2000.00/100.00", "2025-2 0.00/80.00"), months(summary));
+        assertEquals(List.of("Main 2000.00/130.00", "Savings 0.00/50.00"), wallets(summary));
+        // Food, then the uncategorised rows
+        assertEquals(List.of("0.00/130.00", "2000.00/50.00"), summary.getCategories().stream()
+                .map(c -> money(c.getIncome()) + "/" + money(c.getExpense()))
+                .sorted()
+                .toList());
+    }
+
+    @Test
+    void partialMonthsOnlyCountTheDaysInRange() {
+        DashboardSummary summary = dashboardService.getSummary(user, LocalDate.of(2025, 1, 15), LocalDate.of(2025, 2, 10));
+
+        assertEquals("0.00", money(summary.getTotalIncome()));
+        assertEquals("150.00", money(summary.getTotalExpense()));
+        assertEquals(List.of("2025-1 0.00/100.00", "2025-2 0.00/50.00"), months(summary));
+    }
+
+    @Test
+    void wholeMonthFromRollupsMatchesTheRawRows() {
+        DashboardSummary rollups = dashboardService.getSummary(user, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+        // One day short of the month end: aggregated from transactions instead
+        DashboardSummary raw = dashboardService.getSummary(user, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 27));
+
+        assertEquals("80.00", money(rollups.getTotalExpense()));
+        assertEquals(months(raw), months(rollups));
+        assertEquals(wallets(raw), wallets(rollups));
+    }
+
+    @Test
+    void rejectsAnInvertedRange() {
+        assertThrows(RuntimeException.class,
+                () -> dashboardService.getSummary(user, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 31)));
+    }
+
+    private static List<String> months(DashboardSummary summary) {
+        return summary.getMonths().stream()
+                .map(m -> m.getYear() + "-" + m.getMonth() + " " + money(m.getIncome()) + "/" + money(m.getExpense()))
+                .toList();
+    }
+
+    private static List<String> wallets(DashboardSummary summary) {
+        return summary.getWallets().stream()
+                .map(w -> w.getWalletName() + " " + money(w.getIncome()) + "/" + money(w.getExpense()))
+                .toList();
+    }
+
+    private static String money(BigDecimal amount) {
+        return amount.setScale(2).toPlainString();
+    }
+
+    private void add(Wallet wallet, Category category, TransactionType type, String amount, LocalDate date) {
+        TransactionRequest request = TestData.request(wallet, type, amount, type + " " + amount, date);
+        request.setCategoryId(category == null ? null : category.getId());
+        transactionService.createTransaction(request, user);
+    }
+}
@@ -0,0 +1,61 @@
+package com.finance.tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DebtLedgerTest {
+
+    @Test
+    void nettedChainSettlesInOneTransfer() {
+        // 1 owes 2 10.00, 2 owes 3 10.00 -> 1 pays 3 directly
+        DebtLedger ledger = DebtLedger.ofDebts(new long[]{1, 2}, new long[]{2, 3}, new long[]{1000, 1000});
+
+        List<DebtLedger.Transfer> transfers = ledger.settle();
+
+        assertEquals(List.of(new DebtLedger.Transfer(1, 3, 1000)), transfers);
+    }
+
+    @Test
+    void balancesFromSeveralGroupsAreSummedPerUser() {
+        // Rows of two groups: 7 is owed 4.00 overall, 3 owes 5.00, 9 is owed 1.00
+        DebtLedger ledger = DebtLedger.ofBalances(new long[]{7, 3, 7, 3, 9}, new long[]{500, -200, -100, -300, 100});
+
+        assertEquals(3, ledger.size());
+        assertEquals(List.of(new DebtLedger.Transfer(3, 7, 400), new DebtLedger.Transfer(3, 9, 100)), ledger.settle());
+    }
+
+    @Test
+    void equalAmountsAreSettledInUserOrder() {
+        DebtLedger ledger = DebtLedger.ofBalances(new long[]{3, 2, 1}, new long[]{100, 100, -200});
+
+        assertEquals(List.of(new DebtLedger.Transfer(1, 2, 100), new DebtLedger.Transfer(1, 3, 100)), ledger.settle());
+    }
+
+    @Test
+    void transfersClearEveryBalance() {
+        long[] debtors = {1, 1, 2, 3, 4, 5, 5};
+        long[] creditors = {2, 3, 3, 1, 1, 2, 4};
+        long[] cents = {1234, 500, 999, 250, 1, 4321, 77};
+        DebtLedger ledger = DebtLedger.ofDebts(debtors, creditors, cents);
+
+        List<DebtLedger.Transfer> transfers = ledger.settle();
+
+        assertTrue(transfers.size() <= ledger.size() - 1);
+        long[] rest = new long[ledger.size()];
+        for (int i = 0; i < ledger.size(); i++) {
+            rest[i] = ledger.net(i);
+        }
+        for (DebtLedger.Transfer transfer : transfers) {
+            assertTrue(transfer.cents() > 0);
+            rest[ledger.indexOf(transfer.fromUserId())] += transfer.cents();
+            rest[ledger.indexOf(transfer.toUserId())] -= transfer.cents();
+        }
+        for (long balance : rest) {
+            assertEquals(0, balance);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// GroupService.checkAccess: existence and membership checked by index lookups, not by loading members
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class GroupAccessTest {
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private TestData testData;
+
+    private User creator;
+    private User member;
+    private User outsider;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        creator = testData.user("creator");
+        member = testData.user("member");
+        outsider = testData.user("outsider");
+        groupId = testData.group(creator, "Flat", member);
+    }
+
+    @Test
+    void membersPassTheAccessCheck() {
+        assertDoesNotThrow(() -> groupService.checkAccess(groupId, creator));
+        assertDoesNotThrow(() -> groupService.checkAccess(groupId, member));
+    }
+
+    @Test
+    void nonMembersAndMissingGroupsAreRejected() {
+        RuntimeException denied = assertThrows(RuntimeException.class, () -> groupService.checkAccess(groupId, outsider));
+        assertEquals("Access denied: You are not a member of this group", denied.getMessage());
+
+        RuntimeException missing = assertThrows(RuntimeException.class, () -> groupService.checkAccess(-1L, creator));
+        assertEquals("Group not found", missing.getMessage());
+
+        assertThrows(RuntimeException.class, () -> groupService.getGroupById(groupId, outsider));
+        assertThrows(RuntimeException.class, () -> groupService.getGroupMembers(groupId, outsider));
+        assertThrows(RuntimeException.class, () -> groupService.getGroupTransactions(groupId, outsider));
+    }
+}
@@ -0,0 +1,104 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.GroupOverview;
+import com.finance.tracker.dto.SettlementTransfer;
+import com.finance.tracker.dto.TransactionPage;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.dto.UserDTO;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// GET /api/groups/{id}/overview: the concurrently loaded parts end up in one consistent response
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class GroupOverviewTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 1);
+
+    @Autowired
+    private GroupOverviewService groupOverviewService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestData testData;
+
+    private User payer;
+    private User friend;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        payer = testData.user("payer");
+        friend = testData.user("friend");
+        groupId = testData.group(payer, "Holiday", friend);
+
+        Wallet wallet = testData.wallet(payer, "Main", "1000.00");
+        bill(wallet, "Hotel", DAY);
+        bill(wallet, "Train", DAY.plusDays(1));
+        bill(wallet, "Dinner", DAY.plusDays(2));
+    }
+
+    @Test
+    void overviewHoldsGroupMembersFirstPageAndSettlement() {
+        GroupOverview overview = groupOverviewService.getOverview(groupId, 2, friend);
+
+        assertEquals("Holiday", overview.getGroup().getName());
+        assertEquals(2L, overview.getGroup().getMemberCount());
+        assertEquals(List.of("friend", "payer"), overview.getMembers().stream()
+                .map(UserDTO::getUsername)
+                .sorted()
+                .toList());
+
+        TransactionPage first = overview.getTransactions();
+        assertEquals(List.of("Dinner", "Train"), descriptions(first));
+        assertNotNull(first.getNextCursor());
+        TransactionPage rest = groupOverviewService.getTransactionPage(groupId, first.getNextCursor(), 2, friend);
+        assertEquals(List.of("Hotel"), descriptions(rest));
+        assertNull(rest.getNextCursor());
+
+        // Three bills of 30.00 split in two: friend owes the payer 45.00
+        List<SettlementTransfer> transfers = overview.getSettlement().getTransfers();
+        assertEquals(1, transfers.size());
+        assertEquals(friend.getId(), transfers.get(0).getFrom().getId());
+        assertEquals(payer.getId(), transfers.get(0).getTo().getId());
+        assertEquals(new BigDecimal("45.00"), transfers.get(0).getAmount());
+    }
+
+    @Test
+    void nonMembersGetNoPartOfTheOverview() {
+        User outsider = testData.user("outsider");
+
+        RuntimeException denied = assertThrows(RuntimeException.class,
+                () -> groupOverviewService.getOverview(groupId, null, outsider));
+        assertEquals("Access denied: You are not a member of this group", denied.getMessage());
+        assertThrows(RuntimeException.class, () -> groupOverviewService.getTransactionPage(groupId, null, null, outsider));
+    }
+
+    private static List<String> descriptions(TransactionPage page) {
+        return page.getItems().stream().map(TransactionResponse::getDescription).toList();
+    }
+
+    private void bill(Wallet wallet, String description, LocalDate date) {
+        transactionService.createTransaction(TestData.bill(wallet, groupId, "30.00", description, date,
+                List.of(payer.getId(), friend.getId())), payer);
+    }
+}
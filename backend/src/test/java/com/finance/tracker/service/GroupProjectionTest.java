@@ -0,0 +1,89 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.GroupRequest;
+import com.finance.tracker.dto.GroupResponse;
+import com.finance.tracker.dto.RefDTO;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.dto.UserDTO;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// Group and transaction reads are served as DTO projections (creator, member count, refs)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class GroupProjectionTest {
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestData testData;
+
+    private User creator;
+    private User member;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        creator = testData.user("creator");
+        member = testData.user("member");
+        GroupRequest request = new GroupRequest();
+        request.setName("Flat");
+        request.setDescription("Rent and bills");
+        request.setMemberIds(Set.of(member.getId()));
+        groupId = groupService.createGroup(request, creator).getId();
+    }
+
+    @Test
+    void groupProjectionCarriesTheCreatorAndMemberCount() {
+        GroupResponse group = groupService.getGroupById(groupId, member);
+
+        assertEquals("Flat", group.getName());
+        assertEquals("Rent and bills", group.getDescription());
+        assertEquals(new UserDTO(creator.getId(), "creator", creator.getEmail()), group.getCreatedBy());
+        assertEquals(2L, group.getMemberCount());
+        assertEquals(List.of(group), groupService.getMyGroups(member));
+    }
+
+    @Test
+    void membersAndBillsAreReadAsDtos() {
+        Wallet wallet = testData.wallet(creator, "Main", "100.00");
+        TransactionRequest request = TestData.request(wallet, TransactionType.EXPENSE, "40.00", "Groceries", LocalDate.of(2025, 4, 1));
+        request.setGroupId(groupId);
+        transactionService.createTransaction(request, creator);
+
+        assertEquals(List.of("creator", "member"), groupService.getGroupMembers(groupId, member).stream()
+                .map(UserDTO::getUsername)
+                .sorted()
+                .toList());
+
+        List<TransactionResponse> bills = groupService.getGroupTransactions(groupId, member);
+        assertEquals(1, bills.size());
+        TransactionResponse bill = bills.get(0);
+        assertEquals("Groceries", bill.getDescription());
+        assertEquals(creator.getId(), bill.getUser().getId());
+        assertEquals(RefDTO.of(wallet.getId(), "Main"), bill.getWallet());
+        assertEquals(RefDTO.of(groupId, "Flat"), bill.getGroup());
+        assertNull(bill.getCategory());
+    }
+}
@@ -0,0 +1,91 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.SplitMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Group bills through createTransaction: participant checks and the debts they leave (H2)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class GroupSplitTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private PairwiseBalanceService pairwiseBalanceService;
+
+    @Autowired
+    private TestData testData;
+
+    private User payer;
+    private User friend;
+    private User outsider;
+    private Wallet wallet;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        payer = testData.user("payer");
+        friend = testData.user("friend");
+        outsider = testData.user("outsider");
+        wallet = testData.wallet(payer, "Main", "100.00");
+        groupId = testData.group(payer, "Flat", friend);
+    }
+
+    @Test
+    void equalSplitLeavesEachMemberOwingTheirShare() {
+        bill(null, List.of(payer.getId(), friend.getId()), null);
+
+        assertEquals(new BigDecimal("15.00"), pairwiseBalanceService.getOwed(groupId, friend.getId(), payer.getId()));
+        assertEquals(new BigDecimal("70.00"), balance());
+    }
+
+    @Test
+    void nonMembersAreRejectedAndNothingIsWritten() {
+        assertThrows(RuntimeException.class,
+                () -> bill(null, List.of(payer.getId(), outsider.getId()), null));
+        assertThrows(RuntimeException.class,
+                () -> bill(SplitMode.SHARES, List.of(friend.getId(), outsider.getId()), List.of("1", "1")));
+
+        // Both bills rolled back, balance included
+        assertEquals(new BigDecimal("100.00"), balance());
+        assertEquals(0, transactionService.getMyTransactions(payer).size());
+    }
+
+    @Test
+    void duplicateParticipantsAreRejectedInEveryMode() {
+        assertThrows(RuntimeException.class,
+                () -> bill(null, List.of(friend.getId(), friend.getId()), null));
+        assertThrows(RuntimeException.class,
+                () -> bill(SplitMode.EXACT, List.of(friend.getId(), friend.getId()), List.of("15", "15")));
+        assertEquals(new BigDecimal("100.00"), balance());
+    }
+
+    private void bill(SplitMode mode, List<Long> userIds, List<String> values) {
+        TransactionRequest request = TestData.bill(wallet, groupId, "30.00", "Groceries", LocalDate.of(2025, 3, 1), userIds);
+        request.setSplitMode(mode);
+        request.setSplitValues(values == null ? null : values.stream().map(BigDecimal::new).toList());
+        transactionService.createTransaction(request, payer);
+    }
+
+    private BigDecimal balance() {
+        return testData.balanceOf(wallet);
+    }
+}
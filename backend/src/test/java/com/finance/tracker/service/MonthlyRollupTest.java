@@ -0,0 +1,153 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.CategoryRequest;
+import com.finance.tracker.dto.CategoryResponse;
+import com.finance.tracker.dto.DashboardSummary;
+import com.finance.tracker.dto.RollupVerification;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// monthly_rollups against the transactions they summarize: record on write / delete, verify, rebuild,
+// and the completeness marker that lets the dashboard read them
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class MonthlyRollupTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private MonthlyRollupService rollupService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private RollupVerificationJob verificationJob;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TestData testData;
+
+    private User user;
+    private Wallet wallet;
+
+    @BeforeEach
+    void setUp() {
+        user = testData.user("rollups");
+        wallet = testData.wallet(user, "Main", "1000.00");
+    }
+
+    @Test
+    void writesAndDeletesKeepRollupsEqualToTransactions() {
+        CategoryRequest food = new CategoryRequest();
+        food.setName("Food " + System.nanoTime());
+        food.setType(TransactionType.EXPENSE);
+        CategoryResponse category = categoryService.createCategory(food, user);
+
+        add(TransactionType.INCOME, "500.00", MARCH, null);
+        add(TransactionType.EXPENSE, "20.00", MARCH, category.getId());
+        TransactionResponse removed = add(TransactionType.EXPENSE, "30.00", MARCH.plusDays(1), category.getId());
+        add(TransactionType.EXPENSE, "45.50", MARCH.plusMonths(1), null);
+        transactionService.deleteTransaction(removed.getId(), user);
+
+        RollupVerification result = rollupService.verify(user.getId());
+        assertTrue(result.getDrifts().isEmpty(), () -> "drift: " + result.getDrifts());
+
+        // The open-range dashboard reads the rollups
+        DashboardSummary summary = dashboardService.getSummary(user, null, null);
+        assertEquals(new BigDecimal("500.00"), summary.getTotalIncome());
+        assertEquals(new BigDecimal("65.50"), summary.getTotalExpense());
+        assertEquals(2, summary.getMonths().size());
+    }
+
+    @Test
+    void historyWithoutRollupsIsReportedAndRebuilt() {
+        // Rows from before rollups existed, of a user that was never marked complete
+        rollupService.markIncomplete(user.getId());
+        saveWithoutRollup("80.00");
+        assertFalse(rollupService.isComplete(user.getId()));
+
+        // Until they are rebuilt the dashboard aggregates the transactions instead of showing zero
+        assertEquals(new BigDecimal("80.00"), dashboardService.getSummary(user, null, null).getTotalExpense());
+
+        assertEquals(1, rollupService.verify(user.getId()).getDrifts().size());
+        rollupService.rebuild(user.getId());
+        assertTrue(rollupService.verify(user.getId()).getDrifts().isEmpty());
+        assertTrue(rollupService.isComplete(user.getId()));
+        assertEquals(new BigDecimal("80.00"), dashboardService.getSummary(user, null, null).getTotalExpense());
+    }
+
+    @Test
+    void driftSendsTheDashboardBackToTransactions() {
+        add(TransactionType.EXPENSE, "20.00", MARCH, null);
+        // A write the rollups missed: the user has rollups, but not for every transaction
+        saveWithoutRollup("80.00");
+        assertEquals(new BigDecimal("20.00"), dashboardService.getSummary(user, null, null).getTotalExpense());
+
+        verificationJob.verifyAll();
+
+        assertFalse(rollupService.isComplete(user.getId()));
+        assertEquals(new BigDecimal("100.00"), dashboardService.getSummary(user, null, null).getTotalExpense());
+    }
+
+    @Test
+    void cleanVerificationMarksTheRollupsComplete() {
+        add(TransactionType.EXPENSE, "20.00", MARCH, null);
+        rollupService.markIncomplete(user.getId());
+
+        verificationJob.verifyAll();
+
+        assertTrue(rollupService.isComplete(user.getId()));
+    }
+
+    // Written without going through TransactionService, so no bucket is updated
+    private void saveWithoutRollup(String amount) {
+        transactionRepository.save(Transaction.builder()
+                .amount(new BigDecimal(amount))
+                .description("Old groceries")
+                .date(MARCH)
+                .type(TransactionType.EXPENSE)
+                .user(user)
+                .wallet(wallet)
+                .build());
+    }
+
+    private TransactionResponse add(TransactionType type, String amount, LocalDate date, Long categoryId) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAmount(new BigDecimal(amount));
+        request.setDescription(type + " " + amount);
+        request.setDate(date);
+        request.setType(type);
+        request.setWalletId(wallet.getId());
+        request.setCategoryId(categoryId);
+        return transactionService.createTransaction(request, user);
+    }
+}
@@ -0,0 +1,55 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.RecurringTransaction;
+import com.finance.tracker.model.enums.RecurrenceFrequency;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecurrenceTest {
+
+    @Test
+    void monthlyKeepsTheStartDayWhereTheMonthHasIt() {
+        RecurringTransaction rule = rule(RecurrenceFrequency.MONTHLY, 1, null, LocalDate.of(2025, 1, 31));
+        assertEquals(List.of(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 28),
+                LocalDate.of(2025, 3, 31), LocalDate.of(2025, 4, 30)), dates(rule, 4));
+    }
+
+    @Test
+    void intervalSkipsPeriods() {
+        RecurringTransaction rule = rule(RecurrenceFrequency.WEEKLY, 2, null, LocalDate.of(2025, 3, 3));
+        assertEquals(List.of(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 17),
+                LocalDate.of(2025, 3, 31)), dates(rule, 3));
+    }
+
+    @Test
+    void cronFallsOnMatchingDaysFromTheStartDate() {
+        // 1st and 15th of each month, starting mid-way between them
+        RecurringTransaction rule = rule(RecurrenceFrequency.CRON, 1, "0 0 9 1,15 * *", LocalDate.of(2025, 3, 10));
+        assertEquals(List.of(LocalDate.of(2025, 3, 15), LocalDate.of(2025, 4, 1),
+                LocalDate.of(2025, 4, 15)), dates(rule, 3));
+    }
+
+    private static List<LocalDate> dates(RecurringTransaction rule, int count) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = Recurrence.first(rule);
+        for (int i = 0; i < count; i++) {
+            dates.add(date);
+            date = Recurrence.next(rule, date, i);
+        }
+        return dates;
+    }
+
+    private static RecurringTransaction rule(RecurrenceFrequency frequency, int interval, String cron, LocalDate start) {
+        return RecurringTransaction.builder()
+                .frequency(frequency)
+                .intervalCount(interval)
+                .cron(cron)
+                .startDate(start)
+                .build();
+    }
+}
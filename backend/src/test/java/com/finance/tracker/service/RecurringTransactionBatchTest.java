@@ -0,0 +1,109 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.config.TrackerMetrics;
+import com.finance.tracker.model.RecurringTransaction;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.RecurrenceFrequency;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.repository.RecurringTransactionRepository;
+import com.finance.tracker.repository.WalletRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Races the H2 tests cannot stage: a wallet spent from mid-batch, a lease taken over mid-run
+class RecurringTransactionBatchTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 10);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void walletThatChangedIsSkippedAndTheOthersAreBooked() {
+        RecurringTransactionRepository recurringRepository = mock(RecurringTransactionRepository.class);
+        WalletRepository walletRepository = mock(WalletRepository.class);
+        MonthlyRollupService rollupService = mock(MonthlyRollupService.class);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        RecurringTransactionService service = new RecurringTransactionService(recurringRepository, walletRepository,
+                mock(WalletCache.class), mock(CategoryCache.class), rollupService, jdbcTemplate,
+                new TrackerMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(service, "maxCatchUp", 31);
+
+        RecurringTransaction raced = rule(1L, 10L);
+        RecurringTransaction other = rule(2L, 20L);
+        when(recurringRepository.findDue(eq(TODAY), any())).thenReturn(List.of(raced, other));
+        when(walletRepository.findAllById(any())).thenReturn(List.of(wallet(10L), wallet(20L)));
+        // Wallet 10 was emptied between the read and the guarded update
+        when(walletRepository.applyDelta(eq(10L), any())).thenReturn(0);
+        when(walletRepository.applyDelta(eq(20L), any())).thenReturn(1);
+
+        RecurringTransactionService.MaterializedBatch batch = service.materializeDue(TODAY, null, null, 500);
+
+        assertEquals(2, batch.rules());
+        assertEquals(1, batch.occurrences());
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertEquals(1, rows.getValue().size());
+        assertEquals(2L, rows.getValue().get(0)[7]); // recurring_id
+        verify(rollupService, never()).add(any(), eq(10L), any(), any(), any(), any(), anyLong());
+        // The skipped rule is still due, the other one moved on
+        assertEquals(TODAY, raced.getNextDueDate());
+        assertEquals(0, raced.getOccurrenceCount());
+        assertEquals(TODAY.plusDays(1), other.getNextDueDate());
+        assertEquals(1, other.getOccurrenceCount());
+    }
+
+    @Test
+    void runStopsWhenTheLeaseIsLost() {
+        RecurringTransactionService service = mock(RecurringTransactionService.class);
+        SchedulerLeaseService leaseService = mock(SchedulerLeaseService.class);
+        RecurringTransactionJob job = new RecurringTransactionJob(service, leaseService);
+        ReflectionTestUtils.setField(job, "batchSize", 2);
+        ReflectionTestUtils.setField(job, "leaseTtl", Duration.ofMinutes(4));
+
+        // A full first batch means more may be due, but another instance took the lease meanwhile
+        when(leaseService.tryAcquire(eq(RecurringTransactionJob.LEASE), any())).thenReturn(true, false);
+        when(service.materializeDue(TODAY, null, null, 2))
+                .thenReturn(new RecurringTransactionService.MaterializedBatch(2, 3, TODAY, 5L));
+
+        assertEquals(3, job.run(TODAY));
+        verify(service, never()).materializeDue(eq(TODAY), eq(TODAY), eq(5L), anyInt());
+        verify(leaseService).release(RecurringTransactionJob.LEASE);
+    }
+
+    private static RecurringTransaction rule(Long id, Long walletId) {
+        return RecurringTransaction.builder()
+                .id(id)
+                .userId(7L)
+                .walletId(walletId)
+                .amount(new BigDecimal("10.00"))
+                .description("Subscription")
+                .type(TransactionType.EXPENSE)
+                .frequency(RecurrenceFrequency.DAILY)
+                .intervalCount(1)
+                .startDate(TODAY)
+                .nextDueDate(TODAY)
+                .build();
+    }
+
+    private static Wallet wallet(Long id) {
+        return Wallet.builder().id(id).balance(new BigDecimal("100.00")).build();
+    }
+}
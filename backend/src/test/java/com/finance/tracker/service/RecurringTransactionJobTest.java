@@ -0,0 +1,101 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.RecurringTransactionRequest;
+import com.finance.tracker.dto.RecurringTransactionResponse;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.RecurrenceFrequency;
+import com.finance.tracker.model.enums.TransactionType;
+import com.finance.tracker.repository.RecurringTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Catch-up, idempotent re-runs and overdraft handling of the recurring transaction job (H2)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class RecurringTransactionJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 10);
+
+    @Autowired
+    private RecurringTransactionJob job;
+
+    @Autowired
+    private RecurringTransactionService recurringService;
+
+    @Autowired
+    private RecurringTransactionRepository recurringRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MonthlyRollupService monthlyRollupService;
+
+    @Autowired
+    private TestData testData;
+
+    private User user;
+    private Wallet wallet;
+
+    @BeforeEach
+    void setUp() {
+        user = testData.user("recurring");
+        wallet = testData.wallet(user, "Main", "100.00");
+    }
+
+    @Test
+    void booksMissedOccurrencesOnceAndMovesTheRuleOn() {
+        RecurringTransactionResponse rule = create(TransactionType.EXPENSE, "10.00", TODAY.minusDays(2));
+
+        job.run(TODAY);
+        job.run(TODAY); // nothing left due: no duplicates
+
+        List<TransactionResponse> booked = transactionService.getMyTransactions(user);
+        assertEquals(3, booked.size());
+        assertEquals(new BigDecimal("70.00"), balance());
+        assertEquals(TODAY.plusDays(1), recurringRepository.findById(rule.getId()).orElseThrow().getNextDueDate());
+        assertTrue(monthlyRollupService.verify(user.getId()).getDrifts().isEmpty());
+    }
+
+    @Test
+    void leavesAnOverdrawingOccurrenceDue() {
+        RecurringTransactionResponse rule = create(TransactionType.EXPENSE, "60.00", TODAY.minusDays(1));
+
+        job.run(TODAY);
+
+        // The first occurrence fits the balance, the second one would overdraw and waits
+        assertEquals(1, transactionService.getMyTransactions(user).size());
+        assertEquals(new BigDecimal("40.00"), balance());
+        assertEquals(TODAY, recurringRepository.findById(rule.getId()).orElseThrow().getNextDueDate());
+    }
+
+    private RecurringTransactionResponse create(TransactionType type, String amount, LocalDate start) {
+        RecurringTransactionRequest request = new RecurringTransactionRequest();
+        request.setAmount(new BigDecimal(amount));
+        request.setDescription("Daily " + type);
+        request.setType(type);
+        request.setWalletId(wallet.getId());
+        request.setFrequency(RecurrenceFrequency.DAILY);
+        request.setStartDate(start);
+        return recurringService.create(request, user);
+    }
+
+    private BigDecimal balance() {
+        return testData.balanceOf(wallet);
+    }
+}
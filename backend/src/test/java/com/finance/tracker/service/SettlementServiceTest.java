@@ -0,0 +1,136 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.GroupSettlement;
+import com.finance.tracker.dto.SettlementRequest;
+import com.finance.tracker.dto.SettlementTransfer;
+import com.finance.tracker.model.PairwiseBalance;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.repository.PairwiseBalanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// pairwise_balances upserts and what the settlement endpoints read from them (H2)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class SettlementServiceTest {
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private PairwiseBalanceService pairwiseBalanceService;
+
+    @Autowired
+    private PairwiseBalanceRepository pairwiseBalanceRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User low;   // lower id: always stored as user_a
+    private User high;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        low = testData.user("settle");
+        high = testData.user("settle");
+        groupId = testData.group(low, "Trip", high);
+    }
+
+    @Test
+    void debtsAreStoredOncePerPairLowerIdFirst() {
+        // high owes low 10.00, then low owes high 2.50: one row, netted
+        transactionTemplate.executeWithoutResult(status -> {
+            pairwiseBalanceService.addDebt(groupId, high.getId(), low.getId(), 1000);
+            pairwiseBalanceService.addDebt(groupId, low.getId(), high.getId(), 250);
+        });
+
+        PairwiseBalance row = pairwiseBalanceRepository
+                .findByGroupIdAndUserAAndUserB(groupId, low.getId(), high.getId()).orElseThrow();
+        assertEquals(new BigDecimal("-7.50"), row.getBalance()); // positive = user_a owes user_b
+        assertEquals(new BigDecimal("7.50"), pairwiseBalanceService.getOwed(groupId, high.getId(), low.getId()));
+        assertEquals(new BigDecimal("-7.50"), pairwiseBalanceService.getOwed(groupId, low.getId(), high.getId()));
+    }
+
+    @Test
+    void paymentReducesTheDebtAndThePlan() {
+        transactionTemplate.executeWithoutResult(status ->
+                pairwiseBalanceService.addDebt(groupId, high.getId(), low.getId(), 1000));
+
+        SettlementRequest payment = new SettlementRequest();
+        payment.setToUserId(low.getId());
+        payment.setAmount(new BigDecimal("4.00"));
+        settlementService.recordPayment(groupId, payment, high);
+
+        assertEquals(new BigDecimal("6.00"), settlementService.getPairBalance(groupId, low.getId(), high).getOwes());
+        GroupSettlement settlement = settlementService.getGroupSettlement(groupId, high);
+        List<SettlementTransfer> transfers = settlement.getTransfers();
+        assertEquals(1, transfers.size());
+        assertEquals(high.getId(), transfers.get(0).getFrom().getId());
+        assertEquals(new BigDecimal("6.00"), transfers.get(0).getAmount());
+    }
+
+    @Test
+    void pairBalanceRejectsNonMembers() {
+        User outsider = testData.user("outsider");
+
+        assertThrows(RuntimeException.class, () -> settlementService.getPairBalance(groupId, outsider.getId(), low));
+        assertThrows(RuntimeException.class, () -> settlementService.getPairBalance(groupId, 999_999L, low));
+        assertThrows(RuntimeException.class, () -> settlementService.getPairBalance(groupId, low.getId(), outsider));
+    }
+
+    @Test
+    void deletingABillTakesItsDebtsBack() {
+        Wallet wallet = testData.wallet(low, "Main", "100.00");
+        Long billId = transactionService.createTransaction(TestData.bill(wallet, groupId, "20.00", "Dinner",
+                LocalDate.of(2025, 6, 1), List.of(low.getId(), high.getId())), low).getId();
+
+        assertEquals(new BigDecimal("10.00"), pairwiseBalanceService.getOwed(groupId, high.getId(), low.getId()));
+        assertEquals(1, settlementService.getGroupSettlement(groupId, low).getTransfers().size());
+
+        transactionService.deleteTransaction(billId, low);
+
+        assertEquals(0, pairwiseBalanceService.getOwed(groupId, high.getId(), low.getId()).signum());
+        assertEquals(List.of(), settlementService.getGroupSettlement(groupId, low).getTransfers());
+    }
+
+    @Test
+    void mySettlementsNetDebtsAcrossGroups() {
+        Long otherGroupId = testData.group(low, "Flat", high);
+
+        // high owes low 10.00 in one group, low owes high 4.00 in the other: one payment of 6.00
+        transactionTemplate.executeWithoutResult(status -> {
+            pairwiseBalanceService.addDebt(groupId, high.getId(), low.getId(), 1000);
+            pairwiseBalanceService.addDebt(otherGroupId, low.getId(), high.getId(), 400);
+        });
+
+        for (User user : List.of(high, low)) {
+            List<SettlementTransfer> transfers = settlementService.getMySettlements(user);
+            assertEquals(1, transfers.size());
+            assertEquals(high.getId(), transfers.get(0).getFrom().getId());
+            assertEquals(low.getId(), transfers.get(0).getTo().getId());
+            assertEquals(new BigDecimal("6.00"), transfers.get(0).getAmount());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.enums.SplitMode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SplitSharesTest {
+
+    @Test
+    void equalSplitIgnoresValuesAndAddsUp() {
+        assertArrayEquals(new long[]{3334, 3333, 3333},
+                TransactionService.splitShares(SplitMode.EQUAL, 10000, 3, null));
+        assertArrayEquals(new long[]{1, 0},
+                TransactionService.splitShares(SplitMode.EQUAL, 1, 2, values("5", "5")));
+    }
+
+    @Test
+    void sharesAreProportionalAndAddUp() {
+        // 100.00 split 1 : 1 : 1 -> leftover cent goes to the first part
+        assertArrayEquals(new long[]{3334, 3333, 3333},
+                TransactionService.splitShares(SplitMode.SHARES, 10000, 3, values("1", "1", "1")));
+        // 10.00 split 2 : 1
+        assertArrayEquals(new long[]{667, 333},
+                TransactionService.splitShares(SplitMode.SHARES, 1000, 2, values("2", "1")));
+    }
+
+    @Test
+    void percentagesMustAddUpToHundred() {
+        assertArrayEquals(new long[]{5000, 2500, 2500},
+                TransactionService.splitShares(SplitMode.PERCENTAGE, 10000, 3, values("50", "25", "25")));
+        assertThrows(RuntimeException.class,
+                () -> TransactionService.splitShares(SplitMode.PERCENTAGE, 10000, 2, values("50", "49.99")));
+    }
+
+    @Test
+    void exactAmountsMustMatchTheBill() {
+        assertArrayEquals(new long[]{1250, 750},
+                TransactionService.splitShares(SplitMode.EXACT, 2000, 2, values("12.50", "7.50")));
+        assertThrows(RuntimeException.class,
+                () -> TransactionService.splitShares(SplitMode.EXACT, 2000, 2, values("12.50", "7.49")));
+    }
+
+    private static List<BigDecimal> values(String... values) {
+        return Arrays.stream(values).map(BigDecimal::new).toList();
+    }
+}
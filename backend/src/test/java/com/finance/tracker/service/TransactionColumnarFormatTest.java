@@ -0,0 +1,71 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.RefDTO;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionColumnarFormatTest {
+
+    @Test
+    void roundTripsBlocks() throws IOException {
+        RefDTO wallet = new RefDTO(7L, "Main");
+        RefDTO food = new RefDTO(3L, "Food");
+        // Export order: newest first, so ids and dates mostly go down
+        List<TransactionResponse> first = List.of(
+                row(900L, "2025-03-02", "12.50", TransactionType.EXPENSE, wallet, food, null, "Coffee, \"large\""),
+                row(899L, "2025-03-02", "2500.00", TransactionType.INCOME, wallet, null, null, "Salary"),
+                row(12L, "2024-12-31", "0.01", TransactionType.EXPENSE, wallet, food, new RefDTO(5L, "Trip"), "Café ☕"));
+        List<TransactionResponse> second = List.of(
+                row(11L, "2024-01-01", "99999999.99", TransactionType.TRANSFER, new RefDTO(8L, "Savings"), null, null, ""));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TransactionColumnarFormat.writeHeader(out);
+        TransactionColumnarFormat.writeBlock(first, out);
+        TransactionColumnarFormat.writeBlock(List.of(), out); // empty chunks are skipped
+        TransactionColumnarFormat.writeBlock(second, out);
+        TransactionColumnarFormat.writeEnd(out);
+
+        List<TransactionResponse> expected = new ArrayList<>(first);
+        expected.addAll(second);
+        assertEquals(expected, TransactionColumnarFormat.read(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    void rejectsTruncatedFiles() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TransactionColumnarFormat.writeHeader(out);
+        TransactionColumnarFormat.writeBlock(List.of(
+                row(1L, "2025-01-01", "1.00", TransactionType.INCOME, new RefDTO(1L, "Main"), null, null, "x")), out);
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+
+        assertThrows(IOException.class,
+                () -> TransactionColumnarFormat.read(new ByteArrayInputStream(truncated)));
+    }
+
+    private static TransactionResponse row(Long id, String date, String amount, TransactionType type,
+                                           RefDTO wallet, RefDTO category, RefDTO group, String description) {
+        TransactionResponse row = new TransactionResponse();
+        row.setId(id);
+        row.setDate(LocalDate.parse(date));
+        row.setAmount(new BigDecimal(amount));
+        row.setType(type);
+        row.setWallet(wallet);
+        row.setCategory(category);
+        row.setGroup(group);
+        row.setDescription(description);
+        return row;
+    }
+}
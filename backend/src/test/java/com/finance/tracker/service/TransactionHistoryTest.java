@@ -0,0 +1,100 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.TransactionPage;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// GET /api/transactions/page: keyset paging over (date, id), and the NDJSON export walk
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class TransactionHistoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 5, 1);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestData testData;
+
+    private User user;
+    private List<String> newestFirst;
+
+    @BeforeEach
+    void setUp() {
+        user = testData.user("history");
+        Wallet wallet = testData.wallet(user, "Main", "1000.00");
+
+        // Three rows share a date, so the id has to break the tie between pages
+        add(wallet, "a", DAY);
+        add(wallet, "b", DAY.plusDays(1));
+        add(wallet, "c", DAY.plusDays(1));
+        add(wallet, "d", DAY.plusDays(1));
+        add(wallet, "e", DAY.plusDays(2));
+        newestFirst = List.of("e", "d", "c", "b", "a");
+    }
+
+    @Test
+    void pagesCoverTheHistoryOnceNewestFirst() {
+        List<TransactionResponse> seen = new ArrayList<>();
+        TransactionPage page = transactionService.getTransactionPage(user, null, 2);
+        seen.addAll(page.getItems());
+        int pages = 1;
+        while (page.getNextCursor() != null) {
+            page = transactionService.getTransactionPage(user, page.getNextCursor(), 2);
+            seen.addAll(page.getItems());
+            pages++;
+        }
+
+        assertEquals(3, pages);
+        assertEquals(newestFirst, descriptions(seen));
+    }
+
+    @Test
+    void lastFullPageHasNoCursor() {
+        TransactionPage page = transactionService.getTransactionPage(user, null, 5);
+
+        assertEquals(newestFirst, descriptions(page.getItems()));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void rejectsAMalformedCursor() {
+        assertThrows(RuntimeException.class, () -> transactionService.getTransactionPage(user, "not-a-cursor", 2));
+    }
+
+    @Test
+    void exportWalksTheSameOrder() {
+        List<TransactionResponse> streamed = new ArrayList<>();
+        transactionService.streamTransactions(user, streamed::add);
+
+        assertEquals(newestFirst, descriptions(streamed));
+    }
+
+    private static List<String> descriptions(List<TransactionResponse> rows) {
+        return rows.stream().map(TransactionResponse::getDescription).toList();
+    }
+
+    private void add(Wallet wallet, String description, LocalDate date) {
+        transactionService.createTransaction(
+                TestData.request(wallet, TransactionType.EXPENSE, "10.00", description, date), user);
+    }
+}
@@ -0,0 +1,146 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.ImportError;
+import com.finance.tracker.dto.ImportResult;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// CSV / JSON import: per-row errors, running balance check, batch flushes, rollups (H2)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class TransactionImportTest {
+
+    @Autowired
+    private TransactionImportService importService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MonthlyRollupService rollupService;
+
+    @Autowired
+    private TestData testData;
+
+    private User user;
+    private Wallet wallet;
+
+    @BeforeEach
+    void setUp() {
+        // Small batches so an import spans several flushes
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(importService), "batchSize", 2);
+        user = testData.user("import");
+        wallet = testData.wallet(user, "Main", "100.00");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(importService), "batchSize", 500);
+    }
+
+    @Test
+    void csvImportsGoodRowsAndReportsBadOnes() throws IOException {
+        long w = wallet.getId();
+        String csv = "date,description,amount,type,walletId\n"
+                + "2025-03-01,Salary,500.00,income," + w + "\n"
+                + "2025-03-02,Rent,450.00,EXPENSE," + w + "\n"
+                + "2025-03-03,Too much,200.00,EXPENSE," + w + "\n"      // 150.00 left: overdraft
+                + "not-a-date,Broken,1.00,EXPENSE," + w + "\n"
+                + "2025-03-04,Negative,-5.00,EXPENSE," + w + "\n"
+                + "2025-03-05,Elsewhere,5.00,EXPENSE,999999\n"
+                + "\n"
+                + "2025-04-01,\"Coffee, large\",12.50,EXPENSE," + w + "\n"
+                + "2025-04-02,Refund,2.50,INCOME," + w + "\n";
+
+        ImportResult result = importService.importCsv(stream(csv), user);
+
+        assertEquals(4, result.getImported());
+        assertEquals(4, result.getFailed());
+        assertEquals(List.of(3L, 4L, 5L, 6L), rows(result.getErrors()));
+        assertEquals("Insufficient balance in wallet!", result.getErrors().get(0).getMessage());
+        assertEquals(new BigDecimal("140.00"), balance());
+        assertEquals(4, transactionService.getMyTransactions(user).size());
+        assertTrue(rollupService.verify(user.getId()).getDrifts().isEmpty());
+    }
+
+    @Test
+    void oversizedAmountsRejectOnlyTheirRow() throws IOException {
+        long w = wallet.getId();
+        String csv = "date,description,amount,type,walletId\n"
+                + "2025-03-01,Huge,100000000000000000000.00,INCOME," + w + "\n"  // beyond long cents
+                + "2025-03-02,Big,90000000000000000.00,INCOME," + w + "\n"
+                + "2025-03-03,Big again,90000000000000000.00,INCOME," + w + "\n" // running balance overflows
+                + "2025-03-04,Lunch,10.00,EXPENSE," + w + "\n";
+
+        ImportResult result = importService.importCsv(stream(csv), user);
+
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(1L, 3L), rows(result.getErrors()));
+        assertEquals(new BigDecimal("90000000000000090.00"), balance());
+    }
+
+    @Test
+    void jsonMappingErrorsOnlyRejectTheirElement() throws IOException {
+        long w = wallet.getId();
+        String json = "["
+                + "{\"date\":\"2025-03-01\",\"description\":\"Lunch\",\"amount\":10,\"type\":\"EXPENSE\",\"walletId\":" + w + "},"
+                + "{\"date\":\"yesterday\",\"description\":\"Bad date\",\"amount\":10,\"type\":\"EXPENSE\",\"walletId\":" + w + "},"
+                + "{\"date\":\"2025-03-02\",\"description\":\"Bad amount\",\"amount\":\"ten\",\"type\":\"EXPENSE\",\"walletId\":" + w + "},"
+                + "{\"date\":\"2025-03-03\",\"description\":\"Dinner\",\"amount\":20,\"type\":\"EXPENSE\",\"walletId\":" + w + "}"
+                + "]";
+
+        ImportResult result = importService.importJson(stream(json), user);
+
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(2L, 3L), rows(result.getErrors()));
+        assertEquals(new BigDecimal("70.00"), balance());
+    }
+
+    @Test
+    void jsonSyntaxErrorStopsAtTheBrokenElement() throws IOException {
+        long w = wallet.getId();
+        String json = "["
+                + "{\"date\":\"2025-03-01\",\"description\":\"Lunch\",\"amount\":10,\"type\":\"EXPENSE\",\"walletId\":" + w + "},"
+                + "{\"date\":\"2025-03-02\",\"description\":\"Cut off\",\"amount\":";
+
+        ImportResult result = importService.importJson(stream(json), user);
+
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(2L), rows(result.getErrors()));
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Malformed JSON"));
+        assertEquals(new BigDecimal("90.00"), balance());
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Long> rows(List<ImportError> errors) {
+        return errors.stream().map(ImportError::getRow).toList();
+    }
+
+    private BigDecimal balance() {
+        return testData.balanceOf(wallet);
+    }
+}
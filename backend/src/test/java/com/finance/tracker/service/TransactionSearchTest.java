@@ -0,0 +1,109 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.TransactionPage;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.dto.TransactionSearch;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// Filters of /api/transactions/search (LIKE path, H2) and keyset paging through the matches
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class TransactionSearchTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestData testData;
+
+    private User user;
+    private Wallet main;
+    private Wallet savings;
+
+    @BeforeEach
+    void setUp() {
+        user = testData.user("search");
+        main = testData.wallet(user, "Main", "1000.00");
+        savings = testData.wallet(user, "Savings", "1000.00");
+
+        add(main, TransactionType.EXPENSE, "12.50", "Coffee at Cafe 100%", DAY);
+        add(main, TransactionType.EXPENSE, "80.00", "Weekly groceries", DAY.plusDays(1));
+        add(main, TransactionType.INCOME, "2500.00", "Salary March", DAY.plusDays(2));
+        add(savings, TransactionType.EXPENSE, "4.20", "coffee beans", DAY.plusDays(3));
+        add(savings, TransactionType.INCOME, "100.00", "Interest", DAY.plusDays(4));
+    }
+
+    @Test
+    void matchesEveryWordCaseInsensitively() {
+        assertEquals(List.of("coffee beans", "Coffee at Cafe 100%"), descriptions(search(s -> s.setQ("COFFEE"))));
+        assertEquals(List.of("Coffee at Cafe 100%"), descriptions(search(s -> s.setQ("coffee cafe"))));
+        // LIKE wildcards in the input are matched literally
+        assertEquals(List.of("Coffee at Cafe 100%"), descriptions(search(s -> s.setQ("100%"))));
+    }
+
+    @Test
+    void combinesFilters() {
+        assertEquals(List.of("Interest"), descriptions(search(s -> {
+            s.setWalletId(savings.getId());
+            s.setType(TransactionType.INCOME);
+        })));
+        assertEquals(List.of("Interest", "Weekly groceries"), descriptions(search(s -> {
+            s.setMinAmount(new BigDecimal("50"));
+            s.setMaxAmount(new BigDecimal("100"));
+        })));
+        assertEquals(List.of("Salary March", "Weekly groceries"), descriptions(search(s -> {
+            s.setFrom(DAY.plusDays(1));
+            s.setTo(DAY.plusDays(2));
+        })));
+    }
+
+    @Test
+    void pagesThroughMatchesWithTheCursor() {
+        TransactionSearch expenses = new TransactionSearch();
+        expenses.setType(TransactionType.EXPENSE);
+
+        List<TransactionResponse> seen = new ArrayList<>();
+        TransactionPage page = transactionService.searchTransactions(user, expenses, null, 2);
+        seen.addAll(page.getItems());
+        page = transactionService.searchTransactions(user, expenses, page.getNextCursor(), 2);
+        seen.addAll(page.getItems());
+
+        assertNull(page.getNextCursor());
+        assertEquals(List.of("coffee beans", "Weekly groceries", "Coffee at Cafe 100%"), descriptions(seen));
+    }
+
+    private List<TransactionResponse> search(Consumer<TransactionSearch> filters) {
+        TransactionSearch search = new TransactionSearch();
+        filters.accept(search);
+        return transactionService.searchTransactions(user, search, null, 50).getItems();
+    }
+
+    private static List<String> descriptions(List<TransactionResponse> rows) {
+        return rows.stream().map(TransactionResponse::getDescription).toList();
+    }
+
+    private void add(Wallet wallet, TransactionType type, String amount, String description, LocalDate date) {
+        transactionService.createTransaction(TestData.request(wallet, type, amount, description, date), user);
+    }
+}
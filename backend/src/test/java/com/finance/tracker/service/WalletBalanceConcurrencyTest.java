@@ -0,0 +1,99 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Many threads hitting the same wallet at once: no update may be lost and it may never overdraw
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class WalletBalanceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 50;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void concurrentIncomeLosesNoUpdates() throws Exception {
+        User user = testData.user("stress");
+        Wallet wallet = testData.wallet(user, "Stress", "0.00");
+
+        AtomicInteger succeeded = runConcurrently(() ->
+                transactionService.createTransaction(request(wallet, TransactionType.INCOME), user));
+
+        assertEquals(THREADS * PER_THREAD, succeeded.get());
+        assertEquals(new BigDecimal(THREADS * PER_THREAD).setScale(2), testData.balanceOf(wallet));
+    }
+
+    @Test
+    void concurrentExpensesNeverOverdraw() throws Exception {
+        User user = testData.user("stress");
+        Wallet wallet = testData.wallet(user, "Stress", "100.00");
+
+        // 400 attempts to spend 1.00 from a wallet holding 100.00
+        AtomicInteger succeeded = runConcurrently(() ->
+                transactionService.createTransaction(request(wallet, TransactionType.EXPENSE), user));
+
+        assertEquals(100, succeeded.get());
+        assertEquals(new BigDecimal("0.00"), testData.balanceOf(wallet));
+    }
+
+    private AtomicInteger runConcurrently(Runnable work) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < PER_THREAD; j++) {
+                        try {
+                            work.run();
+                            succeeded.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            // rejected (insufficient balance) - counted by the caller
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return succeeded;
+    }
+
+    private static TransactionRequest request(Wallet wallet, TransactionType type) {
+        return TestData.request(wallet, type, "1.00", "stress", LocalDate.now());
+    }
+}
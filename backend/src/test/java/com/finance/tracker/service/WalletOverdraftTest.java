@@ -0,0 +1,70 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.TestData;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.User;
+import com.finance.tracker.model.Wallet;
+import com.finance.tracker.model.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Only debits are checked against the balance; credits always land, even on a negative wallet
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+class WalletOverdraftTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void incomeIntoANegativeWalletIsApplied() {
+        User user = testData.user("overdrawn");
+        Wallet wallet = testData.wallet(user, "Card", "-50.00");
+
+        transactionService.createTransaction(
+                TestData.request(wallet, TransactionType.INCOME, "20.00", "salary", LocalDate.now()), user);
+
+        assertEquals(new BigDecimal("-30.00"), testData.balanceOf(wallet));
+    }
+
+    @Test
+    void deletingAnExpenseRefundsANegativeWallet() {
+        User user = testData.user("overdrawn");
+        Wallet wallet = testData.wallet(user, "Card", "10.00");
+        TransactionResponse expense = transactionService.createTransaction(
+                TestData.request(wallet, TransactionType.EXPENSE, "10.00", "rent", LocalDate.now()), user);
+        // Overdrawn since, e.g. by a bank fee entered through another path
+        jdbcTemplate.update("UPDATE wallets SET balance = -40.00 WHERE id = ?", wallet.getId());
+
+        transactionService.deleteTransaction(expense.getId(), user);
+
+        assertEquals(new BigDecimal("-30.00"), testData.balanceOf(wallet));
+    }
+
+    @Test
+    void expenseFromANegativeWalletIsStillRejected() {
+        User user = testData.user("overdrawn");
+        Wallet wallet = testData.wallet(user, "Card", "-50.00");
+
+        assertThrows(RuntimeException.class, () -> transactionService.createTransaction(
+                TestData.request(wallet, TransactionType.EXPENSE, "1.00", "coffee", LocalDate.now()), user));
+        assertEquals(new BigDecimal("-50.00"), testData.balanceOf(wallet));
+    }
+}
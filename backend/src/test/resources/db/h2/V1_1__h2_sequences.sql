@@ -0,0 +1,4 @@
+-- Test-only: on MySQL Hibernate emulates the expense_splits id sequence with a table (V1),
+-- on H2 it expects a real sequence. Same pooled step as @SequenceGenerator(allocationSize = 50).
+DROP TABLE expense_splits_seq;
+CREATE SEQUENCE expense_splits_seq START WITH 1 INCREMENT BY 50;
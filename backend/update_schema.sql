@@ -1,7 +1,112 @@
--- Update the transactions table to allow NULL for category_id
--- Run this SQL in your MySQL database (MySQL Workbench or command line)
--- This is required because Hibernate won't automatically change NOT NULL to nullable
+-- Upgrade of a database created by the earlier ddl-auto: update builds.
+-- Run this SQL in your MySQL database (MySQL Workbench or command line).
+--
+-- Upgrade order (the only place it is written down):
+--   1. Stop the old application.
+--   2. Run this whole file once. It brings the schema to exactly what V1__baseline.sql creates:
+--      the tables the old builds never had are created here, then columns are changed and the
+--      new tables are backfilled from the existing transactions.
+--   3. Start with SPRING_PROFILES_ACTIVE=prod. Flyway baselines the database at V1 (V1 itself
+--      never runs on it), applies V2 and later, and Hibernate validates the result.
+-- New databases skip this file: Flyway creates them from V1.
 
 USE tracker; -- Replace 'tracker' with your database name if different
 
 ALTER TABLE transactions MODIFY COLUMN category_id BIGINT NULL;
+
+
+-- Composite index for keyset pagination of a user's transaction history
+-- (GET /api/transactions/page and /api/transactions/export)
+CREATE INDEX idx_transactions_user_date_id ON transactions (user_id, date, id);
+
+-- expense_splits ids now come from a pooled sequence so splits can be batch inserted.
+-- On MySQL Hibernate emulates it with the expense_splits_seq table; start it after the
+-- existing ids. The pooled optimizer hands out (next_val - 49 .. next_val), hence +50.
+CREATE TABLE IF NOT EXISTS expense_splits_seq (next_val BIGINT);
+DELETE FROM expense_splits_seq;
+INSERT INTO expense_splits_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM expense_splits;
+
+-- Tables added after the old builds, as in V1__baseline.sql. IF NOT EXISTS keeps the ones an
+-- intermediate ddl-auto: update build already created (same columns and unique keys).
+CREATE TABLE IF NOT EXISTS monthly_rollups (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT NOT NULL,
+    wallet_id   BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    type        ENUM('INCOME', 'EXPENSE', 'TRANSFER') NOT NULL,
+    total       DECIMAL(19, 2) NOT NULL,
+    tx_count    BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_monthly_rollups_key UNIQUE (user_id, wallet_id, category_id, month_start, type)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS pairwise_balances (
+    id       BIGINT NOT NULL AUTO_INCREMENT,
+    group_id BIGINT NOT NULL,
+    user_a   BIGINT NOT NULL,
+    user_b   BIGINT NOT NULL,
+    balance  DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_pairwise_balances_pair UNIQUE (group_id, user_a, user_b)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS settlements (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    group_id     BIGINT NOT NULL,
+    from_user_id BIGINT NOT NULL,
+    to_user_id   BIGINT NOT NULL,
+    amount       DECIMAL(19, 2) NOT NULL,
+    date         DATE NOT NULL,
+    note         VARCHAR(255),
+    PRIMARY KEY (id),
+    INDEX idx_settlements_group_date (group_id, date),
+    CONSTRAINT fk_settlements_group FOREIGN KEY (group_id) REFERENCES expence_groups (id),
+    CONSTRAINT fk_settlements_from_user FOREIGN KEY (from_user_id) REFERENCES users (id),
+    CONSTRAINT fk_settlements_to_user FOREIGN KEY (to_user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- Money is stored as exact DECIMAL(19,2) instead of DOUBLE
+ALTER TABLE transactions MODIFY COLUMN amount DECIMAL(19,2) NOT NULL;
+ALTER TABLE wallets MODIFY COLUMN balance DECIMAL(19,2) NOT NULL;
+ALTER TABLE expense_splits MODIFY COLUMN amount DECIMAL(19,2) NOT NULL;
+ALTER TABLE monthly_rollups MODIFY COLUMN total DECIMAL(19,2) NOT NULL;
+
+-- Backfill monthly_rollups once from the existing transactions (category 0 = no category). Buckets the application already wrote
+-- are overwritten with the full recount, so running this after the deploy is safe too.
+-- The dashboard keeps using raw transactions for existing users until V4's rollup_status marks
+-- them, i.e. after RollupVerificationJob finds their rollups clean or a rebuild.
+INSERT INTO monthly_rollups (user_id, wallet_id, category_id, month_start, type, total, tx_count)
+SELECT user_id,
+       wallet_id,
+       COALESCE(category_id, 0),
+       DATE_SUB(date, INTERVAL DAYOFMONTH(date) - 1 DAY),
+       type,
+       SUM(amount),
+       COUNT(*)
+FROM transactions
+GROUP BY user_id, wallet_id, COALESCE(category_id, 0), DATE_SUB(date, INTERVAL DAYOFMONTH(date) - 1 DAY), type
+ON DUPLICATE KEY UPDATE total = VALUES(total), tx_count = VALUES(tx_count);
+
+-- Reverse lookup for "groups I am in"; membership checks use the (group_id, user_id) primary key
+CREATE INDEX idx_group_members_user_group ON group_members (user_id, group_id);
+
+-- Backfill pairwise_balances (one running balance per pair of users in a group) once
+-- from the existing splits; userA is always the lower id
+-- and a positive balance means userA owes userB.
+INSERT INTO pairwise_balances (group_id, user_a, user_b, balance)
+SELECT t.group_id,
+       LEAST(es.user_id, t.user_id),
+       GREATEST(es.user_id, t.user_id),
+       SUM(CASE WHEN es.user_id < t.user_id THEN es.amount ELSE -es.amount END)
+FROM expense_splits es
+JOIN transactions t ON t.id = es.transaction_id
+WHERE t.group_id IS NOT NULL AND es.user_id <> t.user_id
+GROUP BY t.group_id, LEAST(es.user_id, t.user_id), GREATEST(es.user_id, t.user_id)
+ON DUPLICATE KEY UPDATE balance = VALUES(balance);
+
+-- Keyset pagination of a group's bills (group overview / group transaction pages)
+CREATE INDEX idx_transactions_group_date_id ON transactions (group_id, date, id);
+
+-- From here on the prod profile manages the schema with Flyway (src/main/resources/db/migration):
+-- later changes ship as V2__..., V3__... migrations instead of being added to this file.
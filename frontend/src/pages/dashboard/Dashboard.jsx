@@ -19,6 +19,7 @@ const Dashboard = () => {
   // States for data
   const [wallets, setWallets] = useState([]);
   const [transactions, setTransactions] = useState([]);
+  const [summary, setSummary] = useState(null);
   const [loading, setLoading] = useState(true);
   const [showAddTransaction, setShowAddTransaction] = useState(false);
   const [showNewWallet, setShowNewWallet] = useState(false);
@@ -52,13 +53,20 @@ const Dashboard = () => {
       const walletData = await walletRes.json();
       setWallets(walletData || []);
 
-      // Get Transactions
-      const transRes = await fetch(`${API_BASE_URL}/api/transactions`, { headers });
+      // Get Totals (aggregated on the server)
+      const summaryRes = await fetch(`${API_BASE_URL}/api/dashboard/summary`, { headers });
+      if (!summaryRes.ok) {
+        throw new Error(`Failed to fetch summary: ${summaryRes.status}`);
+      }
+      setSummary(await summaryRes.json());
+
+      // Get Recent Transactions (first page only)
+      const transRes = await fetch(`${API_BASE_URL}/api/transactions/page`, { headers });
       if (!transRes.ok) {
         throw new Error(`Failed to fetch transactions: ${transRes.status}`);
       }
       const transData = await transRes.json();
-      setTransactions(transData || []);
+      setTransactions(transData?.items || []);
 
     } catch (error) {
       console.error("Error fetching data:", error);
@@ -70,25 +78,16 @@ const Dashboard = () => {
 
   if (loading) return <div className="flex justify-center items-center h-screen">Loading...</div>;
 
-  // Calculate total income and expenses
-  const totalIncome = transactions
-    .filter(tx => tx.type === 'INCOME')
-    .reduce((sum, tx) => sum + (tx.amount || 0), 0);
-  
-  const totalExpenses = transactions
-    .filter(tx => tx.type === 'EXPENSE')
-    .reduce((sum, tx) => sum + (tx.amount || 0), 0);
+  // Total income and expenses come pre-aggregated from the server
+  const totalIncome = summary?.totalIncome || 0;
+  const totalExpenses = summary?.totalExpense || 0;
 
   // Calculate initial value for wallets
   const calculateInitialValue = (wallet) => {
-    const walletTransactions = transactions.filter(tx => tx.wallet?.id === wallet.id);
-    const walletIncome = walletTransactions
-      .filter(tx => tx.type === 'INCOME')
-      .reduce((sum, tx) => sum + (tx.amount || 0), 0);
-    const walletExpenses = walletTransactions
-      .filter(tx => tx.type === 'EXPENSE')
-      .reduce((sum, tx) => sum + (tx.amount || 0), 0);
-    
+    const walletTotals = summary?.wallets?.find(w => w.walletId === wallet.id);
+    const walletIncome = walletTotals?.income || 0;
+    const walletExpenses = walletTotals?.expense || 0;
+
     return (wallet.balance || 0) - walletIncome + walletExpenses;
   };
 
@@ -50,19 +50,15 @@ const GroupDetails = () => {
         "Content-Type": "application/json"
       };
 
-      // Fetch group info
-      const groupRes = await fetch(`${API_BASE_URL}/api/groups/${id}`, { headers });
-      const groupData = await groupRes.json();
-      setGroup(groupData);
-
-      // Fetch group members
-      const membersRes = await fetch(`${API_BASE_URL}/api/groups/${id}/members`, { headers });
-      const membersData = await membersRes.json();
+      // Group info, members and latest transactions in one request
+      const overviewRes = await fetch(`${API_BASE_URL}/api/groups/${id}/overview?size=200`, { headers });
+      const overview = await overviewRes.json();
+      setGroup(overview.group);
+
+      const membersData = overview.members;
       setMembers(membersData);
 
-      // Fetch group transactions
-      const transRes = await fetch(`${API_BASE_URL}/api/groups/${id}/transactions`, { headers });
-      const transData = await transRes.json();
+      const transData = overview.transactions.items;
       setTransactions(transData);
 
       // Calculate balances
@@ -102,7 +102,7 @@ const Groups = () => {
                     <Users className="h-6 w-6" />
                   </div>
                   <span className="text-xs bg-neutral-100 text-neutral-600 px-2 py-1 rounded-full">
-                    {group.members?.length || 0} members
+                    {group.memberCount ?? 0} members
                   </span>
                 </div>
                 <h3 className="text-xl font-bold text-neutral-800 mb-2">{group.name}</h3>
@@ -26,6 +26,10 @@ const Transactions = () => {
   const [showAddModal, setShowAddModal] = useState(false);
   const [deleteConfirm, setDeleteConfirm] = useState({ show: false, transactionId: null });
   const [deleting, setDeleting] = useState(false);
+  const [searchResults, setSearchResults] = useState(null); // { items, nextCursor } while a filter is active
+  const [loadingMore, setLoadingMore] = useState(false);
+
+  const filtersActive = searchTerm.trim() !== '' || filterType !== 'ALL';
 
   useEffect(() => {
     if (!token) {
@@ -52,11 +56,42 @@ const Transactions = () => {
     }
   };
 
-  const filteredTransactions = transactions.filter(tx => {
-    const matchesSearch = tx.description.toLowerCase().includes(searchTerm.toLowerCase());
-    const matchesType = filterType === 'ALL' || tx.type === filterType;
-    return matchesSearch && matchesType;
-  });
+  // Filtering runs on the server (/api/transactions/search), debounced while typing
+  useEffect(() => {
+    if (!token || !filtersActive) {
+      setSearchResults(null);
+      return;
+    }
+    const timer = setTimeout(() => searchTransactions(null), 300);
+    return () => clearTimeout(timer);
+  }, [searchTerm, filterType]);
+
+  const searchTransactions = async (cursor) => {
+    const params = new URLSearchParams({ size: '50' });
+    if (searchTerm.trim() !== '') params.set('q', searchTerm.trim());
+    if (filterType !== 'ALL') params.set('type', filterType);
+    if (cursor) params.set('cursor', cursor);
+
+    try {
+      const response = await fetch(`${API_BASE_URL}/api/transactions/search?${params}`, {
+        headers: { "Authorization": `Bearer ${token}` }
+      });
+      const page = await response.json();
+      setSearchResults(prev => cursor && prev
+        ? { items: [...prev.items, ...page.items], nextCursor: page.nextCursor }
+        : page);
+    } catch (error) {
+      console.error("Error searching transactions:", error);
+    }
+  };
+
+  const loadMore = async () => {
+    setLoadingMore(true);
+    await searchTransactions(searchResults.nextCursor);
+    setLoadingMore(false);
+  };
+
+  const filteredTransactions = filtersActive ? (searchResults?.items ?? []) : transactions;
 
   const totalIncome = transactions
     .filter(tx => tx.type === 'INCOME')
@@ -66,6 +101,28 @@ const Transactions = () => {
     .filter(tx => tx.type === 'EXPENSE')
     .reduce((sum, tx) => sum + tx.amount, 0);
 
+  // Full history as CSV, streamed by the server
+  const handleExport = async () => {
+    try {
+      const response = await fetch(`${API_BASE_URL}/api/transactions/export/csv`, {
+        headers: { "Authorization": `Bearer ${token}` }
+      });
+      if (!response.ok) {
+        toast.error('Export failed');
+        return;
+      }
+      const url = URL.createObjectURL(await response.blob());
+      const link = document.createElement('a');
+      link.href = url;
+      link.download = 'transactions.csv';
+      link.click();
+      URL.revokeObjectURL(url);
+    } catch (error) {
+      console.error("Error exporting transactions:", error);
+      toast.error('Network error. Please try again.');
+    }
+  };
+
   const handleDeleteClick = (transactionId) => {
     setDeleteConfirm({ show: true, transactionId });
   };
@@ -86,6 +143,7 @@ const Transactions = () => {
       if (response.ok || response.status === 204) {
         toast.success('Transaction deleted successfully');
         fetchTransactions();
+        if (filtersActive) searchTransactions(null);
         setDeleteConfirm({ show: false, transactionId: null });
       } else {
         toast.error('Failed to delete transaction');
@@ -188,7 +246,10 @@ const Transactions = () => {
                 Expenses
               </button>
             </div>
-            <button className="px-4 py-2 border border-neutral-300 rounded-lg hover:bg-neutral-50 flex items-center transition">
+            <button
+              onClick={handleExport}
+              className="px-4 py-2 border border-neutral-300 rounded-lg hover:bg-neutral-50 flex items-center transition"
+            >
               <Download className="h-5 w-5 mr-2" /> Export
             </button>
           </div>
@@ -255,6 +316,17 @@ const Transactions = () => {
               )}
             </tbody>
           </table>
+          {filtersActive && searchResults?.nextCursor && (
+            <div className="p-4 text-center border-t border-neutral-100">
+              <button
+                onClick={loadMore}
+                disabled={loadingMore}
+                className="px-4 py-2 border border-neutral-300 rounded-lg hover:bg-neutral-50 transition"
+              >
+                {loadingMore ? 'Loading...' : 'Load more'}
+              </button>
+            </div>
+          )}
         </div>
       </div>
 